@@ -0,0 +1,76 @@
+package com.example.customerbookingservice.benchmark;
+
+import com.example.customerbookingservice.data.entity.Booking;
+import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.data.enums.CustomerStatus;
+import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+final class BenchmarkData {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    static Customer customer(long id) {
+        return Customer.builder()
+                .id(id)
+                .fullName("Customer " + id)
+                .email("customer" + id + "@example.com")
+                .status(CustomerStatus.ACTIVE)
+                .age(30)
+                .created(NOW)
+                .updated(NOW)
+                .build();
+    }
+
+    static Booking booking(long id) {
+        return Booking.builder()
+                .id(id)
+                .title("Booking " + id)
+                .description("Description " + id)
+                .status(BookingStatus.ACTIVE)
+                .created(NOW)
+                .updated(NOW)
+                .startDate(LocalDate.of(2025, 1, 1).plusDays(id))
+                .endDate(LocalDate.of(2025, 1, 2).plusDays(id))
+                .brand(Brand.builder().id(1L).name("Brand").build())
+                .customer(customer(id))
+                .build();
+    }
+
+    static List<Customer> customers(int count) {
+        return LongStream.rangeClosed(1, count).mapToObj(BenchmarkData::customer).toList();
+    }
+
+    static List<Booking> bookings(int count) {
+        return LongStream.rangeClosed(1, count).mapToObj(BenchmarkData::booking).toList();
+    }
+
+    static CreateBookingDto createBookingDto() {
+        return CreateBookingDto.builder()
+                .title("Booking")
+                .description("Description")
+                .status("ACTIVE")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 2))
+                .customerId(1L)
+                .build();
+    }
+
+    static CreateCustomerDto createCustomerDto() {
+        return CreateCustomerDto.builder()
+                .fullName("John Doe")
+                .email("john@example.com")
+                .status("ACTIVE")
+                .age(30)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.customerbookingservice.benchmark;
+
+import com.example.customerbookingservice.data.entity.Booking;
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.dto.customer.CustomerDto;
+import com.example.customerbookingservice.mapper.BookingMapper;
+import com.example.customerbookingservice.mapper.CustomerMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written mappers with the ModelMapper setup they replaced
+ * (a single instance using {@link MatchingStrategies#STANDARD}), one list page at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+    @Param({"1", "20", "100"})
+    private int pageSize;
+
+    private ModelMapper modelMapper;
+    private BookingMapper bookingMapper;
+    private CustomerMapper customerMapper;
+
+    private List<Booking> bookings;
+    private List<Customer> customers;
+    private CreateBookingDto createBookingDto;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STANDARD);
+        bookingMapper = new BookingMapper();
+        customerMapper = new CustomerMapper();
+
+        bookings = BenchmarkData.bookings(pageSize);
+        customers = BenchmarkData.customers(pageSize);
+        createBookingDto = BenchmarkData.createBookingDto();
+    }
+
+    @Benchmark
+    public List<BookingDto> bookingPage_modelMapper() {
+        return bookings.stream().map(booking -> modelMapper.map(booking, BookingDto.class)).toList();
+    }
+
+    @Benchmark
+    public List<BookingDto> bookingPage_mapper() {
+        return bookings.stream().map(bookingMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<CustomerDto> customerPage_modelMapper() {
+        return customers.stream().map(customer -> modelMapper.map(customer, CustomerDto.class)).toList();
+    }
+
+    @Benchmark
+    public List<CustomerDto> customerPage_mapper() {
+        return customers.stream().map(customerMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public Booking createBookingToEntity_modelMapper() {
+        return modelMapper.map(createBookingDto, Booking.class);
+    }
+
+    @Benchmark
+    public Booking createBookingToEntity_mapper() {
+        return bookingMapper.toEntity(createBookingDto);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.customerbookingservice.benchmark;
+
+import com.example.customerbookingservice.controller.BookingController;
+import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.exception.GlobalExceptionHandler;
+import jakarta.persistence.EntityNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ProblemDetail;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProblemDetailBenchmark {
+    private GlobalExceptionHandler exceptionHandler;
+    private MockHttpServletRequest request;
+    private EntityNotFoundException notFound;
+    private MethodArgumentNotValidException notValid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        exceptionHandler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("POST", "/api/bookings");
+        notFound = new EntityNotFoundException("Customer not found");
+
+        var target = new CreateBookingDto();
+        var bindingResult = new BeanPropertyBindingResult(target, "createBookingDto");
+        bindingResult.addError(new FieldError("createBookingDto", "title", "Title is required"));
+        bindingResult.addError(new FieldError("createBookingDto", "status", "Status is required"));
+        bindingResult.addError(new FieldError("createBookingDto", "startDate", "Start Date is required"));
+        var parameter = new MethodParameter(
+                BookingController.class.getMethod("createBooking", CreateBookingDto.class), 0);
+        notValid = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ProblemDetail entityNotFound() {
+        return exceptionHandler.handleEntityNotFound(request, notFound);
+    }
+
+    @Benchmark
+    public ProblemDetail validationErrors() {
+        return exceptionHandler.handleValidationErrors(notValid, request);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.customerbookingservice.benchmark;
+
+import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.customer.CustomerDto;
+import com.example.customerbookingservice.mapper.BookingMapper;
+import com.example.customerbookingservice.mapper.CustomerMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes list pages with an ObjectMapper built the same way Spring Boot builds the MVC one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    @Param({"1", "20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<BookingDto> bookings;
+    private List<CustomerDto> customers;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        var bookingMapper = new BookingMapper();
+        var customerMapper = new CustomerMapper();
+        bookings = BenchmarkData.bookings(pageSize).stream().map(bookingMapper::toDto).toList();
+        customers = BenchmarkData.customers(pageSize).stream().map(customerMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public byte[] bookingPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public byte[] customerPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customers);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.customerbookingservice.benchmark;
+
+import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private CreateBookingDto validBooking;
+    private CreateBookingDto invalidBooking;
+    private CreateCustomerDto validCustomer;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        validBooking = BenchmarkData.createBookingDto();
+        invalidBooking = CreateBookingDto.builder().description("Missing everything").build();
+        validCustomer = BenchmarkData.createCustomerDto();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateBookingDto>> createBooking_valid() {
+        return validator.validate(validBooking);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateBookingDto>> createBooking_invalid() {
+        return validator.validate(invalidBooking);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateCustomerDto>> createCustomer_valid() {
+        return validator.validate(validCustomer);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.customerbookingservice.config.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class BatchRequestConfig {
+
+    @Bean
+    public BatchRequestSizeFilter batchRequestSizeFilter(
+            @Value("${app.batch.max-request-size:1MB}") DataSize maxRequestSize,
+            ObjectMapper objectMapper) {
+        return new BatchRequestSizeFilter(maxRequestSize.toBytes(), objectMapper);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.customerbookingservice.config.batch;
+
+import com.example.customerbookingservice.exception.RequestTooLargeException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Limits the body size of batch create requests before it is deserialized, since the {@code app.batch.max-items}
+ * check only runs on the bound list. A declared {@code Content-Length} over the limit is rejected with 413 without
+ * reading the body; a body without one fails with {@link RequestTooLargeException} once it passes the limit.
+ */
+@RequiredArgsConstructor
+public class BatchRequestSizeFilter extends OncePerRequestFilter {
+    private final long maxBytes;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        var uri = request.getRequestURI();
+        return !"POST".equals(request.getMethod()) || !uri.startsWith("/api/") || !uri.endsWith("/batch");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (request.getContentLengthLong() > maxBytes) {
+            var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.PAYLOAD_TOO_LARGE, message());
+            problemDetail.setTitle("Payload too large");
+            problemDetail.setProperty("path", request.getRequestURI());
+
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), problemDetail);
+            return;
+        }
+
+        filterChain.doFilter(new LimitedRequest(request), response);
+    }
+
+    private String message() {
+        return "Batch request body can't exceed " + maxBytes + " bytes";
+    }
+
+    private final class LimitedRequest extends HttpServletRequestWrapper {
+        private ServletInputStream inputStream;
+
+        private LimitedRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new LimitedInputStream(super.getInputStream());
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            var encoding = getCharacterEncoding();
+            var charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private final class LimitedInputStream extends ServletInputStream {
+        private final ServletInputStream delegate;
+        private long read;
+
+        private LimitedInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var next = delegate.read();
+            if (next >= 0) {
+                count(1);
+            }
+            return next;
+        }
+
+        @Override
+        public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+            var bytes = delegate.read(buffer, offset, length);
+            if (bytes > 0) {
+                count(bytes);
+            }
+            return bytes;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        private void count(int bytes) throws RequestTooLargeException {
+            read += bytes;
+            if (read > maxBytes) {
+                throw new RequestTooLargeException(message());
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.customerbookingservice.config.cache;
+
+import com.example.customerbookingservice.data.repository.BrandRepository;
+import com.example.customerbookingservice.mapper.BrandMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the brand cache once at startup so the first reads after a deploy don't all miss.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.cache.brands", name = "warm-up", havingValue = "true")
+public class BrandCacheWarmer {
+    private final BrandRepository brandRepository;
+    private final BrandMapper brandMapper;
+    private final CacheManager cacheManager;
+    private final LocalCacheProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        var cache = cacheManager.getCache(CacheNames.BRANDS);
+        var limit = (int) Math.min(properties.getBrands().getMaximumSize(), Integer.MAX_VALUE);
+        var brands = brandRepository.findAllBy(PageRequest.of(0, limit, Sort.by("id")));
+
+        brands.forEach(brand -> cache.putIfAbsent(brand.getId(), brandMapper.toDto(brand)));
+        log.info("Warmed brand cache with {} brands", brands.getNumberOfElements());
+    }
+}
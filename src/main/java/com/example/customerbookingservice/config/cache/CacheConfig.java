@@ -0,0 +1,48 @@
+package com.example.customerbookingservice.config.cache;
+
+import com.example.customerbookingservice.service.singleflight.SingleFlightAspect;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Bounded in-process caches (Caffeine, W-TinyLFU eviction) with statistics, which Spring Boot publishes as
+ * {@code cache_gets_total}, {@code cache_evictions_total} and {@code cache_size}.
+ * <p>
+ * The caching advice runs outside the single-flight and transaction advice, so a hit never opens a transaction or
+ * borrows a connection. For the same reason {@code @CachePut} and {@code @CacheEvict} only touch the cache once the
+ * service method's transaction has committed, so a rolled-back write never reaches it.
+ */
+@Configuration
+@EnableCaching(order = SingleFlightAspect.ORDER - 1)
+@EnableConfigurationProperties(LocalCacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(LocalCacheProperties properties) {
+        var cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(cache(CacheNames.BRANDS, properties.getBrands())));
+        return cacheManager;
+    }
+
+    private static Cache cache(String name, LocalCacheProperties.Spec spec) {
+        if (!spec.isEnabled()) {
+            return new NoOpCache(name);
+        }
+
+        return new CaffeineCache(name, Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build(), false);
+    }
+}
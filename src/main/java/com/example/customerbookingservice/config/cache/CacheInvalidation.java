@@ -0,0 +1,26 @@
+package com.example.customerbookingservice.config.cache;
+
+/**
+ * One {@code NOTIFY} payload on the cache invalidation channel: {@code <origin>:<entity>:<id>}.
+ *
+ * @param origin the node that made the change, so it can skip its own notifications
+ */
+public record CacheInvalidation(String origin, Entity entity, long id) {
+
+    public enum Entity {
+        CUSTOMER,
+        BRAND
+    }
+
+    public String toPayload() {
+        return origin + ":" + entity + ":" + id;
+    }
+
+    public static CacheInvalidation parse(String payload) {
+        var parts = payload.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cache invalidation: " + payload);
+        }
+        return new CacheInvalidation(parts[0], Entity.valueOf(parts[1]), Long.parseLong(parts[2]));
+    }
+}
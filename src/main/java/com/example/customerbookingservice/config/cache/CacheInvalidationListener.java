@@ -0,0 +1,207 @@
+package com.example.customerbookingservice.config.cache;
+
+import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.entity.Customer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * Evicts local cache entries when another node publishes a change on the cache invalidation channel.
+ * <p>
+ * The listener holds one dedicated, unpooled connection to the primary. Notifications sent while it is disconnected
+ * are lost, so after every reconnect all local caches are cleared; the next reads reload from the database.
+ * Entries can still be stale for the time between a remote commit and the notification arriving.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationListener implements SmartLifecycle {
+    public static final String APPLICATION_NAME = "cache-invalidation-listener";
+
+    private final CacheManager cacheManager;
+    private final Cache entityCache;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheInvalidationProperties properties;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final Counter reconnects;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+    private volatile Connection connection;
+
+    public CacheInvalidationListener(CacheManager cacheManager,
+                                     EntityManagerFactory entityManagerFactory,
+                                     CacheInvalidationPublisher publisher,
+                                     CacheInvalidationProperties properties,
+                                     DataSourceProperties dataSourceProperties,
+                                     MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.entityCache = entityManagerFactory.getCache().unwrap(Cache.class);
+        this.publisher = publisher;
+        this.properties = properties;
+        this.dataSource = listenerDataSource(dataSourceProperties);
+        this.meterRegistry = meterRegistry;
+
+        this.reconnects = Counter.builder("cache.invalidation.reconnects")
+                .description("Times the invalidation listener reconnected and cleared every local cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().name(APPLICATION_NAME).daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        var current = thread;
+        thread = null;
+        if (current != null) {
+            current.interrupt();
+        }
+        closeQuietly(connection);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        var connectedBefore = false;
+        while (running) {
+            try (var listening = dataSource.getConnection()) {
+                connection = listening;
+                try (var statement = listening.createStatement()) {
+                    statement.execute("LISTEN \"" + properties.getChannel() + "\"");
+                }
+                // LISTEN comes first, so nothing committed after the clear can be missed.
+                if (connectedBefore) {
+                    clearAll();
+                    reconnects.increment();
+                }
+                connectedBefore = true;
+                log.info("Listening for cache invalidations on channel {}", properties.getChannel());
+
+                receive(listening);
+            } catch (SQLException | RuntimeException ex) {
+                // Any failure ends in a reconnect, and the reconnect clears every local cache.
+                if (running) {
+                    log.warn("Cache invalidation listener failed, reconnecting in {}",
+                            properties.getReconnectDelay(), ex);
+                    pause();
+                }
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private void receive(Connection listening) throws SQLException {
+        var pgConnection = listening.unwrap(PGConnection.class);
+        var timeout = (int) properties.getPollTimeout().toMillis();
+        while (running) {
+            var notifications = pgConnection.getNotifications(timeout);
+            if (notifications == null || notifications.length == 0) {
+                if (!listening.isValid(Math.max(1, timeout / 1000))) {
+                    throw new SQLException("Cache invalidation connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                try {
+                    handle(notification.getParameter());
+                } catch (RuntimeException ex) {
+                    log.warn("Failed to apply cache invalidation '{}'", notification.getParameter(), ex);
+                }
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        CacheInvalidation invalidation;
+        try {
+            invalidation = CacheInvalidation.parse(payload);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring cache invalidation '{}'", payload, ex);
+            return;
+        }
+        if (invalidation.origin().equals(publisher.origin())) {
+            return;
+        }
+
+        switch (invalidation.entity()) {
+            case CUSTOMER -> entityCache.evictEntityData(Customer.class, invalidation.id());
+            case BRAND -> {
+                var brands = cacheManager.getCache(CacheNames.BRANDS);
+                if (brands != null) {
+                    brands.evict(invalidation.id());
+                }
+                entityCache.evictEntityData(Brand.class, invalidation.id());
+                // Cached id lists are only invalidated by local writes.
+                entityCache.evictDefaultQueryRegion();
+            }
+        }
+        meterRegistry.counter("cache.invalidation.received", "entity", invalidation.entity().name()).increment();
+    }
+
+    private void clearAll() {
+        cacheManager.getCacheNames().forEach(name -> {
+            var cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+        entityCache.evictAllRegions();
+        log.info("Cleared local caches after reconnecting to the cache invalidation channel");
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.getReconnectDelay());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static DataSource listenerDataSource(DataSourceProperties dataSourceProperties) {
+        var listenerDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        var connectionProperties = new Properties();
+        connectionProperties.setProperty("ApplicationName", APPLICATION_NAME);
+        listenerDataSource.setConnectionProperties(connectionProperties);
+        return listenerDataSource;
+    }
+
+    private static void closeQuietly(Connection current) {
+        if (current == null) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (SQLException ex) {
+            log.debug("Failed to close cache invalidation connection", ex);
+        }
+    }
+}
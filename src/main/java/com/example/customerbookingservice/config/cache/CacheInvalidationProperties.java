@@ -0,0 +1,26 @@
+package com.example.customerbookingservice.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("app.cache.invalidation")
+public class CacheInvalidationProperties {
+    /**
+     * When disabled writes don't notify and nothing listens; only safe with a single node.
+     */
+    private boolean enabled = true;
+
+    private String channel = "cache_invalidation";
+
+    /**
+     * How long the listener waits for notifications before checking that its connection is still alive.
+     */
+    private Duration pollTimeout = Duration.ofSeconds(10);
+
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
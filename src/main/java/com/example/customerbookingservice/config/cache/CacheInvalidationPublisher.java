@@ -0,0 +1,47 @@
+package com.example.customerbookingservice.config.cache;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Tells the other nodes that a cached customer or brand changed. The {@code NOTIFY} is part of the writing
+ * transaction, so Postgres delivers it only after commit and drops it on rollback.
+ */
+@Component
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
+public class CacheInvalidationPublisher {
+    private final CacheInvalidationProperties properties;
+    private final String origin = UUID.randomUUID().toString();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CacheInvalidationPublisher(CacheInvalidationProperties properties) {
+        this.properties = properties;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(CacheInvalidation.Entity entity, long id) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        entityManager.createNativeQuery("select count(*) from pg_notify(:channel, :payload)")
+                .setParameter("channel", properties.getChannel())
+                .setParameter("payload", new CacheInvalidation(origin, entity, id).toPayload())
+                .getSingleResult();
+    }
+
+    /**
+     * Identifies this node in published payloads.
+     */
+    public String origin() {
+        return origin;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.customerbookingservice.config.cache;
+
+public final class CacheNames {
+    public static final String BRANDS = "brands";
+
+    /**
+     * Hibernate second-level cache regions.
+     */
+    public static final String CUSTOMER_ENTITIES = "customer-entities";
+    public static final String BRAND_ENTITIES = "brand-entities";
+
+    private CacheNames() {
+    }
+}
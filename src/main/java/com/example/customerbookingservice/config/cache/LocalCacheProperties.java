@@ -0,0 +1,35 @@
+package com.example.customerbookingservice.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("app.cache")
+public class LocalCacheProperties {
+    private final Spec brands = new Spec();
+
+    @Getter
+    @Setter
+    public static class Spec {
+        /**
+         * When disabled every lookup goes to the database; useful to compare latency with and without the cache.
+         */
+        private boolean enabled = true;
+
+        private long maximumSize = 10_000;
+
+        /**
+         * Upper bound on how long an entry is served after it was loaded or last written.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * Loads up to {@link #maximumSize} entries once the application is ready instead of on first read.
+         */
+        private boolean warmUp;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.customerbookingservice.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache backed by Caffeine through JCache. Entity regions use the read-write strategy, so a
+ * committed update or delete replaces or removes the entry and a load never overwrites a newer version.
+ * <p>
+ * Every region is created here with its own bounds; Hibernate fails on startup instead of silently creating an
+ * unbounded one. The cache manager is owned by the session factory and closed with it.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(SecondLevelCacheProperties properties) {
+        if (!properties.isEnabled()) {
+            return hibernateProperties -> {
+                hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            };
+        }
+
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager(properties));
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * A provider per application context keeps test contexts in one JVM from sharing the default cache manager.
+     */
+    private static CacheManager cacheManager(SecondLevelCacheProperties properties) {
+        var cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(CacheNames.CUSTOMER_ENTITIES, bounded(properties.getCustomers()));
+        cacheManager.createCache(CacheNames.BRAND_ENTITIES, bounded(properties.getBrands()));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                bounded(properties.getQueryResults()));
+        // One entry per table; it must outlive every cached query result, so it is neither bounded nor expired.
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, byReference());
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(SecondLevelCacheProperties.Region region) {
+        var configuration = byReference();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+        return configuration;
+    }
+
+    /**
+     * Hibernate already stores disassembled state, so copying it on every read and write would only add garbage.
+     */
+    private static CaffeineConfiguration<Object, Object> byReference() {
+        var configuration = new CaffeineConfiguration<Object, Object>();
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.customerbookingservice.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("app.cache.second-level")
+public class SecondLevelCacheProperties {
+    /**
+     * When disabled Hibernate reads every entity and cacheable query from the database.
+     */
+    private boolean enabled = true;
+
+    private final Region customers = new Region();
+
+    private final Region brands = new Region();
+
+    /**
+     * Id lists of cacheable queries; the entities themselves are resolved from their own regions.
+     */
+    private final Region queryResults = new Region();
+
+    @Getter
+    @Setter
+    public static class Region {
+        private long maximumSize = 10_000;
+
+        /**
+         * Upper bound on how long an entry is served after it was loaded or last written.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
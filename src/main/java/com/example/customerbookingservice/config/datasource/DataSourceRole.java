@@ -0,0 +1,6 @@
+package com.example.customerbookingservice.config.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
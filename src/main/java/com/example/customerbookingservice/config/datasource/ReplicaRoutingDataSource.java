@@ -0,0 +1,113 @@
+package com.example.customerbookingservice.config.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the lookup happens after the transaction's read-only flag is known.
+ * <p>
+ * When a read-your-writes window is set, the first write of a request also sets the {@value #STICKY_COOKIE} cookie to
+ * the wall-clock time the window ends. Reads of later requests that send it back stay on the primary until then, on any
+ * node. Values further out than one window are ignored, so a forged cookie can't pin a client to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String STICKY_COOKIE = "primary-until";
+    private static final String LAST_WRITE_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".LAST_WRITE";
+
+    private final long readYourWritesWindowNanos;
+    private final long readYourWritesWindowMillis;
+
+    public ReplicaRoutingDataSource(Duration readYourWritesWindow) {
+        this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+        this.readYourWritesWindowMillis = readYourWritesWindow.toMillis();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                recordWrite();
+            }
+            return DataSourceRole.PRIMARY;
+        }
+
+        return wroteRecently() ? DataSourceRole.PRIMARY : DataSourceRole.REPLICA;
+    }
+
+    private void recordWrite() {
+        var attributes = requestAttributes();
+        if (attributes == null) {
+            return;
+        }
+
+        var firstWrite = attributes.getAttribute(LAST_WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null;
+        attributes.setAttribute(LAST_WRITE_ATTRIBUTE, System.nanoTime(), RequestAttributes.SCOPE_REQUEST);
+        if (firstWrite && attributes instanceof ServletRequestAttributes servletAttributes) {
+            setStickyCookie(servletAttributes.getResponse());
+        }
+    }
+
+    private boolean wroteRecently() {
+        var attributes = requestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+
+        var lastWrite = attributes.getAttribute(LAST_WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (lastWrite instanceof Long nanos && System.nanoTime() - nanos < readYourWritesWindowNanos) {
+            return true;
+        }
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                && hasStickyCookie(servletAttributes.getRequest());
+    }
+
+    private void setStickyCookie(HttpServletResponse response) {
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+
+        var until = System.currentTimeMillis() + readYourWritesWindowMillis;
+        var cookie = ResponseCookie.from(STICKY_COOKIE, String.valueOf(until))
+                .path("/")
+                .maxAge((readYourWritesWindowMillis + 999) / 1000)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private boolean hasStickyCookie(HttpServletRequest request) {
+        var cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+
+        var now = System.currentTimeMillis();
+        for (var cookie : cookies) {
+            if (STICKY_COOKIE.equals(cookie.getName())) {
+                try {
+                    var until = Long.parseLong(cookie.getValue());
+                    return now < until && until - now <= readYourWritesWindowMillis;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private RequestAttributes requestAttributes() {
+        return readYourWritesWindowNanos > 0 ? RequestContextHolder.getRequestAttributes() : null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.customerbookingservice.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("app.datasource.routing")
+public class ReplicaRoutingProperties {
+    /**
+     * How long read-only work stays on the primary after a request wrote something, for that request and for later
+     * requests of the same client that send back the sticky cookie. Zero disables read-your-writes stickiness.
+     */
+    private Duration readYourWritesWindow = Duration.ZERO;
+}
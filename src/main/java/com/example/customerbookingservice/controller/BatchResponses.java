@@ -0,0 +1,26 @@
+package com.example.customerbookingservice.controller;
+
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+final class BatchResponses {
+    private BatchResponses() {
+    }
+
+    /**
+     * 201 when every item was created, 422 when an all-or-nothing batch was rejected, 207 for a partial best-effort batch.
+     */
+    static <T> ResponseEntity<BatchResultDto<T>> of(BatchResultDto<T> result) {
+        HttpStatus status;
+        if (result.getFailed() == 0) {
+            status = HttpStatus.CREATED;
+        } else if (result.getMode() == BatchMode.ALL_OR_NOTHING) {
+            status = HttpStatus.UNPROCESSABLE_ENTITY;
+        } else {
+            status = HttpStatus.MULTI_STATUS;
+        }
+        return ResponseEntity.status(status).body(result);
+    }
+}
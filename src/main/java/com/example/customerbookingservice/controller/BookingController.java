@@ -1,5 +1,7 @@
 package com.example.customerbookingservice.controller;
 
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
 import com.example.customerbookingservice.dto.booking.BookingDto;
 import com.example.customerbookingservice.dto.booking.CreateBookingDto;
 import com.example.customerbookingservice.service.BookingService;
@@ -9,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,6 +27,13 @@ public class BookingController {
         return ResponseEntity.created(location).body(booking);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResultDto<BookingDto>> createBookings(
+            @RequestBody List<CreateBookingDto> bookingDtos,
+            @RequestParam(defaultValue = "all_or_nothing") String mode) {
+        return BatchResponses.of(bookingService.createBookings(bookingDtos, BatchMode.from(mode)));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBooking(@PathVariable long id) {
         bookingService.deleteCustomer(id);
@@ -1,34 +1,86 @@
 package com.example.customerbookingservice.controller;
 
+import com.example.customerbookingservice.data.projection.EntityVersion;
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
+import com.example.customerbookingservice.dto.batch.MultiGetResultDto;
 import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.BookingExportFormat;
+import com.example.customerbookingservice.dto.brand.BrandAvailabilityDto;
 import com.example.customerbookingservice.dto.brand.BrandDto;
 import com.example.customerbookingservice.dto.brand.CreateBrandDto;
 import com.example.customerbookingservice.dto.brand.UpdateBrandDto;
+import com.example.customerbookingservice.service.BookingExportService;
 import com.example.customerbookingservice.service.BrandService;
+import com.example.customerbookingservice.service.patch.JsonMergePatch;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/brands")
 public class BrandController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String HAS_NEXT_HEADER = "X-Has-Next";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final BrandService brandService;
+    private final BookingExportService bookingExportService;
 
     @GetMapping()
-    public ResponseEntity<List<BrandDto>> getBrands(Pageable pageable) {
-        return ResponseEntity.ok(brandService.getBrands(pageable));
+    public ResponseEntity<List<BrandDto>> getBrands(Pageable pageable,
+                                                    @RequestParam(defaultValue = "false") boolean withTotal,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            var etag = ETags.ofPage(brandService.getBrandVersions(pageable, withTotal));
+            if (ETags.matches(ifNoneMatch, etag, true)) {
+                return ETags.notModified(etag, null);
+            }
+        }
+
+        var slice = brandService.getBrands(pageable, withTotal);
+        var etag = ETags.ofPage(slice.map(dto -> new EntityVersion(dto.getId(), dto.getUpdated())));
+        var response = ResponseEntity.ok()
+                .eTag(etag)
+                .header(HAS_NEXT_HEADER, String.valueOf(slice.hasNext()));
+        if (slice instanceof Page<BrandDto> page) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(page.getTotalElements()));
+        }
+        return response.body(slice.getContent());
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResultDto<BrandDto>> getBrandsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(brandService.getBrandsByIds(ids));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<BrandDto> getBrandById(@PathVariable long id) {
+    public ResponseEntity<BrandDto> getBrandById(@PathVariable long id,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            var version = brandService.getBrandVersion(id);
+            var etag = ETags.of(version);
+            if (ETags.matches(ifNoneMatch, etag, true)) {
+                return ETags.notModified(etag, version.updated());
+            }
+        }
+
         var brand = brandService.getBrandById(id);
-        return ResponseEntity.ok(brand);
+        return ETags.ok(ETags.of(brand.getId(), brand.getUpdated()), brand.getUpdated()).body(brand);
     }
 
     @PostMapping()
@@ -38,10 +90,33 @@ public class BrandController {
         return ResponseEntity.created(location).body(brand);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResultDto<BrandDto>> createBrands(
+            @RequestBody List<CreateBrandDto> brandDtos,
+            @RequestParam(defaultValue = "all_or_nothing") String mode) {
+        return BatchResponses.of(brandService.createBrands(brandDtos, BatchMode.from(mode)));
+    }
+
     @PutMapping()
-    public ResponseEntity<BrandDto> updateBrand(@RequestBody @Valid UpdateBrandDto brandDto) {
+    public ResponseEntity<BrandDto> updateBrand(@RequestBody @Valid UpdateBrandDto brandDto,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null) {
+            ETags.checkIfMatch(ifMatch, brandService.getBrandVersion(brandDto.getId()));
+        }
+
         var brand = brandService.updateBrand(brandDto);
-        return ResponseEntity.ok(brand);
+        return ETags.ok(ETags.of(brand.getId(), brand.getUpdated()), brand.getUpdated()).body(brand);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<BrandDto> patchBrand(@PathVariable long id, @RequestBody JsonNode patch,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null) {
+            ETags.checkIfMatch(ifMatch, brandService.getBrandVersion(id));
+        }
+
+        var brand = brandService.patchBrand(id, patch);
+        return ETags.ok(ETags.of(brand.getId(), brand.getUpdated()), brand.getUpdated()).body(brand);
     }
 
     @DeleteMapping("/{id}")
@@ -51,7 +126,40 @@ public class BrandController {
     }
 
     @GetMapping("/{id}/bookings")
-    public ResponseEntity<List<BookingDto>> getBrandBookings(@PathVariable long id, Pageable pageable) {
-        return ResponseEntity.ok(brandService.getBrandBookings(id, pageable));
+    public ResponseEntity<List<BookingDto>> getBrandBookings(@PathVariable long id,
+                                                             @RequestParam(required = false) String after,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        var page = brandService.getBrandBookings(id, after, size);
+        var response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getBookings());
+    }
+
+    @GetMapping("/{id}/bookings/export")
+    public void exportBrandBookings(@PathVariable long id,
+                                    @RequestParam(defaultValue = "ndjson") String format,
+                                    HttpServletResponse response) throws IOException {
+        var exportFormat = BookingExportFormat.from(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        bookingExportService.exportBrandBookings(id, exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<BrandAvailabilityDto> getBrandAvailability(
+            @PathVariable long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(brandService.getBrandAvailability(id, from, to));
+    }
+
+    @GetMapping("/{id}/availability/next")
+    public ResponseEntity<BrandAvailabilityDto> getNextFreeSlot(
+            @PathVariable long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "1") int days) {
+        return ResponseEntity.ok(brandService.getNextFreeSlot(id, from, days));
     }
 }
@@ -1,16 +1,29 @@
 package com.example.customerbookingservice.controller;
 
+import com.example.customerbookingservice.data.projection.EntityVersion;
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
+import com.example.customerbookingservice.dto.batch.MultiGetResultDto;
 import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.BookingExportFormat;
 import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
 import com.example.customerbookingservice.dto.customer.CustomerDto;
 import com.example.customerbookingservice.dto.customer.UpdateCustomerDto;
+import com.example.customerbookingservice.service.BookingExportService;
 import com.example.customerbookingservice.service.CustomerService;
+import com.example.customerbookingservice.service.patch.JsonMergePatch;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 
@@ -18,17 +31,53 @@ import java.util.List;
 @RequiredArgsConstructor
 @RequestMapping("/api/customers")
 public class CustomerController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String HAS_NEXT_HEADER = "X-Has-Next";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final CustomerService customerService;
+    private final BookingExportService bookingExportService;
 
     @GetMapping
-    public ResponseEntity<List<CustomerDto>> getCustomers(Pageable pageable) {
-        return ResponseEntity.ok(customerService.getCustomers(pageable));
+    public ResponseEntity<List<CustomerDto>> getCustomers(Pageable pageable,
+                                                          @RequestParam(defaultValue = "false") boolean withTotal,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            var etag = ETags.ofPage(customerService.getCustomerVersions(pageable, withTotal));
+            if (ETags.matches(ifNoneMatch, etag, true)) {
+                return ETags.notModified(etag, null);
+            }
+        }
+
+        var slice = customerService.getCustomers(pageable, withTotal);
+        var etag = ETags.ofPage(slice.map(dto -> new EntityVersion(dto.getId(), dto.getUpdated())));
+        var response = ResponseEntity.ok()
+                .eTag(etag)
+                .header(HAS_NEXT_HEADER, String.valueOf(slice.hasNext()));
+        if (slice instanceof Page<CustomerDto> page) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(page.getTotalElements()));
+        }
+        return response.body(slice.getContent());
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResultDto<CustomerDto>> getCustomersByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(customerService.getCustomersByIds(ids));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerDto> getCustomerById(@PathVariable long id) {
+    public ResponseEntity<CustomerDto> getCustomerById(@PathVariable long id,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            var version = customerService.getCustomerVersion(id);
+            var etag = ETags.of(version);
+            if (ETags.matches(ifNoneMatch, etag, true)) {
+                return ETags.notModified(etag, version.updated());
+            }
+        }
+
         var customer = customerService.getCustomerById(id);
-        return ResponseEntity.ok(customer);
+        return ETags.ok(ETags.of(customer.getId(), customer.getUpdated()), customer.getUpdated()).body(customer);
     }
 
     @PostMapping
@@ -38,10 +87,33 @@ public class CustomerController {
         return ResponseEntity.created(location).body(customer);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResultDto<CustomerDto>> createCustomers(
+            @RequestBody List<CreateCustomerDto> customerDtos,
+            @RequestParam(defaultValue = "all_or_nothing") String mode) {
+        return BatchResponses.of(customerService.createCustomers(customerDtos, BatchMode.from(mode)));
+    }
+
     @PutMapping
-    public ResponseEntity<CustomerDto> updateCustomer(@RequestBody @Valid UpdateCustomerDto customerDto) {
+    public ResponseEntity<CustomerDto> updateCustomer(@RequestBody @Valid UpdateCustomerDto customerDto,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null) {
+            ETags.checkIfMatch(ifMatch, customerService.getCustomerVersion(customerDto.getId()));
+        }
+
         var customer = customerService.updateCustomer(customerDto);
-        return ResponseEntity.ok(customer);
+        return ETags.ok(ETags.of(customer.getId(), customer.getUpdated()), customer.getUpdated()).body(customer);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {JsonMergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CustomerDto> patchCustomer(@PathVariable long id, @RequestBody JsonNode patch,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null) {
+            ETags.checkIfMatch(ifMatch, customerService.getCustomerVersion(id));
+        }
+
+        var customer = customerService.patchCustomer(id, patch);
+        return ETags.ok(ETags.of(customer.getId(), customer.getUpdated()), customer.getUpdated()).body(customer);
     }
 
     @DeleteMapping("/{id}")
@@ -51,7 +123,24 @@ public class CustomerController {
     }
 
     @GetMapping("/{id}/bookings")
-    public ResponseEntity<List<BookingDto>> getCustomerBookings(@PathVariable long id, Pageable pageable) {
-        return ResponseEntity.ok(customerService.getCustomerBookings(id, pageable));
+    public ResponseEntity<List<BookingDto>> getCustomerBookings(@PathVariable long id,
+                                                                @RequestParam(required = false) String after,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        var page = customerService.getCustomerBookings(id, after, size);
+        var response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getBookings());
+    }
+
+    @GetMapping("/{id}/bookings/export")
+    public void exportCustomerBookings(@PathVariable long id,
+                                       @RequestParam(defaultValue = "ndjson") String format,
+                                       HttpServletResponse response) throws IOException {
+        var exportFormat = BookingExportFormat.from(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        bookingExportService.exportCustomerBookings(id, exportFormat, response.getOutputStream());
     }
 }
@@ -0,0 +1,102 @@
+package com.example.customerbookingservice.controller;
+
+import com.example.customerbookingservice.data.projection.EntityVersion;
+import com.example.customerbookingservice.exception.PreconditionFailedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Entity tags derived from {@code id} + {@code updated}. Single resources get strong tags; list pages get a weak
+ * tag over the versions of the rows on the page, so {@code If-None-Match} can be answered from an
+ * {@code (id, updated)} query without mapping or serializing anything.
+ */
+final class ETags {
+    private ETags() {
+    }
+
+    static String of(EntityVersion version) {
+        return of(version.id(), version.updated());
+    }
+
+    static String of(long id, LocalDateTime updated) {
+        return "\"" + id + "-" + Long.toHexString(toMicros(updated)) + "\"";
+    }
+
+    static String ofPage(Slice<EntityVersion> versions) {
+        long hash = versions.hasNext() ? 1 : 0;
+        if (versions instanceof Page<EntityVersion> page) {
+            hash = 31 * hash + page.getTotalElements();
+        }
+        for (var version : versions) {
+            hash = 31 * hash + version.id();
+            hash = 31 * hash + toMicros(version.updated());
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * {@code If-None-Match} uses weak comparison, {@code If-Match} strong comparison (RFC 9110, section 8.8.3.2).
+     */
+    static boolean matches(String header, String etag, boolean weakComparison) {
+        if (header.trim().equals("*")) {
+            return true;
+        }
+        if (!weakComparison && isWeak(etag)) {
+            return false;
+        }
+
+        for (var candidate : header.split(",")) {
+            var tag = candidate.trim();
+            if (!weakComparison && isWeak(tag)) {
+                continue;
+            }
+            if (opaque(tag).equals(opaque(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fails with 412 unless {@code ifMatch} is absent or matches the current version.
+     */
+    static void checkIfMatch(String ifMatch, EntityVersion current) {
+        if (ifMatch != null && !matches(ifMatch, of(current), false)) {
+            throw new PreconditionFailedException("Resource was modified since it was read");
+        }
+    }
+
+    static ResponseEntity.BodyBuilder ok(String etag, LocalDateTime updated) {
+        var response = ResponseEntity.ok().eTag(etag);
+        if (updated != null) {
+            response.lastModified(updated.atZone(ZoneId.systemDefault()));
+        }
+        return response;
+    }
+
+    static <T> ResponseEntity<T> notModified(String etag, LocalDateTime updated) {
+        var response = ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag);
+        if (updated != null) {
+            response.lastModified(updated.atZone(ZoneId.systemDefault()));
+        }
+        return response.build();
+    }
+
+    private static boolean isWeak(String tag) {
+        return tag.startsWith("W/");
+    }
+
+    private static String opaque(String tag) {
+        return isWeak(tag) ? tag.substring(2) : tag;
+    }
+
+    private static long toMicros(LocalDateTime updated) {
+        return updated == null ? 0 : ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updated);
+    }
+}
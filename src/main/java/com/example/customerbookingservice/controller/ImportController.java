@@ -0,0 +1,30 @@
+package com.example.customerbookingservice.controller;
+
+import com.example.customerbookingservice.dto.imports.CreateImportJobDto;
+import com.example.customerbookingservice.dto.imports.ImportJobDto;
+import com.example.customerbookingservice.service.ImportJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/imports")
+public class ImportController {
+    private final ImportJobService importJobService;
+
+    @PostMapping
+    public ResponseEntity<ImportJobDto> startImport(@RequestBody @Valid CreateImportJobDto importDto) {
+        var job = importJobService.startImport(importDto);
+        URI location = URI.create("/api/admin/imports/" + job.getId());
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobDto> getImport(@PathVariable String id) {
+        return ResponseEntity.ok(importJobService.getImport(id));
+    }
+}
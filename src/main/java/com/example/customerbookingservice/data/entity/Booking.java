@@ -7,10 +7,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDate;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_booking_customer_start_date_id", columnList = "customer_id, start_date, id"),
+        @Index(name = "idx_booking_brand_start_date_id", columnList = "brand_id, start_date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,15 +30,18 @@ public class Booking extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private BookingStatus status;
 
+    @Column(nullable = false)
     private LocalDate startDate;
 
     private LocalDate endDate;
 
-    @ManyToOne
-    @JoinColumn(name = "brand_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "brand_id", foreignKey = @ForeignKey(name = "fk_booking_brand"))
+    @OnDelete(action = OnDeleteAction.SET_NULL)
     private Brand brand;
 
-    @ManyToOne
-    @JoinColumn(name = "customer_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id", foreignKey = @ForeignKey(name = "fk_booking_customer"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Customer customer;
 }
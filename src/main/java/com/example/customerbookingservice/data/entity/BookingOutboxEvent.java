@@ -0,0 +1,38 @@
+package com.example.customerbookingservice.data.entity;
+
+import com.example.customerbookingservice.data.enums.BookingEventType;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class BookingOutboxEvent extends BaseEntity {
+    @Enumerated(EnumType.STRING)
+    private BookingEventType eventType;
+
+    private long bookingId;
+
+    private Long customerId;
+
+    private Long brandId;
+
+    @Enumerated(EnumType.STRING)
+    private BookingStatus status;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+}
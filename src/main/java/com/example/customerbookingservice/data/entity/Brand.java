@@ -1,13 +1,23 @@
 package com.example.customerbookingservice.data.entity;
 
+import com.example.customerbookingservice.config.cache.CacheNames;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.BRAND_ENTITIES)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,4 +29,8 @@ public class Brand extends BaseEntity {
     private String address;
 
     private String shortCode;
+
+    @Version
+    @ColumnDefault("0")
+    private long version;
 }
@@ -1,19 +1,29 @@
 package com.example.customerbookingservice.data.entity;
 
+import com.example.customerbookingservice.config.cache.CacheNames;
 import com.example.customerbookingservice.data.enums.CustomerStatus;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.Set;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.CUSTOMER_ENTITIES)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,6 +39,10 @@ public class Customer extends BaseEntity {
 
     private int age;
 
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     @OneToMany(mappedBy = "customer")
     private Set<Booking> bookings;
 }
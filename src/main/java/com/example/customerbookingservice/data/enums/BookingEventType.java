@@ -0,0 +1,5 @@
+package com.example.customerbookingservice.data.enums;
+
+public enum BookingEventType {
+    BOOKING_CREATED, BOOKING_BRAND_ASSIGNED, BOOKING_DELETED
+}
@@ -0,0 +1,6 @@
+package com.example.customerbookingservice.data.projection;
+
+import java.time.LocalDate;
+
+public record BookingInterval(long bookingId, long brandId, LocalDate startDate, LocalDate endDate) {
+}
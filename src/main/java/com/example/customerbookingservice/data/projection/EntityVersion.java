@@ -0,0 +1,6 @@
+package com.example.customerbookingservice.data.projection;
+
+import java.time.LocalDateTime;
+
+public record EntityVersion(long id, LocalDateTime updated) {
+}
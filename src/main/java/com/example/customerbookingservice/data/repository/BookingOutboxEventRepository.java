@@ -0,0 +1,27 @@
+package com.example.customerbookingservice.data.repository;
+
+import com.example.customerbookingservice.data.entity.BookingOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BookingOutboxEventRepository extends JpaRepository<BookingOutboxEvent, Long> {
+
+    /**
+     * Locks the oldest events; rows locked by another relay are skipped rather than waited for.
+     */
+    @Query(value = """
+            select * from booking_outbox_event
+            order by id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<BookingOutboxEvent> lockNextBatch(int limit);
+
+    @Query("select min(e.created) from BookingOutboxEvent e")
+    LocalDateTime findOldestCreated();
+}
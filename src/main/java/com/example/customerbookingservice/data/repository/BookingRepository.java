@@ -1,15 +1,105 @@
 package com.example.customerbookingservice.data.repository;
 
 import com.example.customerbookingservice.data.entity.Booking;
-import org.springframework.data.domain.Pageable;
+import com.example.customerbookingservice.data.projection.BookingInterval;
+import com.example.customerbookingservice.dto.booking.BookingDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findByCustomerId(long customerId, Pageable pageable);
+    String BOOKING_DTO_SELECT = """
+            select new com.example.customerbookingservice.dto.booking.BookingDto(
+                b.id, b.title, b.description, b.status, b.created, b.updated,
+                b.startDate, b.endDate, br.name, b.customer.id)
+            from Booking b left join b.brand br
+            """;
 
-    List<Booking> findByBrandId(long brandId, Pageable pageable);
+    String EXPORT_FETCH_SIZE = "1000";
+
+    String ACTIVE_BRAND_INTERVAL_SELECT = """
+            select new com.example.customerbookingservice.data.projection.BookingInterval(
+                b.id, b.brand.id, b.startDate, b.endDate)
+            from Booking b
+            where b.status = com.example.customerbookingservice.data.enums.BookingStatus.ACTIVE
+              and b.brand is not null
+            """;
+
+    @Query(BOOKING_DTO_SELECT + """
+            where b.customer.id = :customerId
+            order by b.startDate, b.id
+            """)
+    List<BookingDto> findPageByCustomerId(long customerId, Limit limit);
+
+    @Query(BOOKING_DTO_SELECT + """
+            where b.customer.id = :customerId and (b.startDate, b.id) > (:startDate, :id)
+            order by b.startDate, b.id
+            """)
+    List<BookingDto> findPageByCustomerIdAfter(long customerId, LocalDate startDate, long id, Limit limit);
+
+    @Query(BOOKING_DTO_SELECT + """
+            where b.brand.id = :brandId
+            order by b.startDate, b.id
+            """)
+    List<BookingDto> findPageByBrandId(long brandId, Limit limit);
+
+    @Query(BOOKING_DTO_SELECT + """
+            where b.brand.id = :brandId and (b.startDate, b.id) > (:startDate, :id)
+            order by b.startDate, b.id
+            """)
+    List<BookingDto> findPageByBrandIdAfter(long brandId, LocalDate startDate, long id, Limit limit);
+
+    /**
+     * Streams every booking of the customer through a server-side cursor; must be consumed inside a transaction.
+     */
+    @Query(BOOKING_DTO_SELECT + """
+            where b.customer.id = :customerId
+            order by b.startDate, b.id
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<BookingDto> streamByCustomerId(long customerId);
+
+    /**
+     * Streams every booking of the brand through a server-side cursor; must be consumed inside a transaction.
+     */
+    @Query(BOOKING_DTO_SELECT + """
+            where b.brand.id = :brandId
+            order by b.startDate, b.id
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<BookingDto> streamByBrandId(long brandId);
+
+    @Query(value = """
+            select not exists (
+                select 1 from booking
+                where brand_id = :brandId and status = 'ACTIVE'
+                  and period && daterange(:from, :to, '[)'))
+            """, nativeQuery = true)
+    boolean isBrandAvailable(long brandId, LocalDate from, LocalDate to);
+
+    @Query("select b.id from Booking b where b.customer.id = :customerId and b.brand is not null")
+    List<Long> findBrandedIdsByCustomerId(long customerId);
+
+    @Query(ACTIVE_BRAND_INTERVAL_SELECT)
+    List<BookingInterval> findActiveBrandIntervals();
+
+    @Query(ACTIVE_BRAND_INTERVAL_SELECT + """
+              and b.brand.id = :brandId
+            """)
+    List<BookingInterval> findActiveIntervalsByBrandId(long brandId);
 }
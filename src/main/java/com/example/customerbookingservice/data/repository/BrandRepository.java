@@ -1,9 +1,45 @@
 package com.example.customerbookingservice.data.repository;
 
 import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.projection.EntityVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface BrandRepository extends JpaRepository<Brand, Long> {
+    String VERSION_SELECT = """
+            select new com.example.customerbookingservice.data.projection.EntityVersion(b.id, b.updated)
+            from Brand b
+            """;
+
+    Slice<Brand> findAllBy(Pageable pageable);
+
+    /**
+     * Served from the query cache until the brand table changes; the brands themselves come from their entity region.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Brand> findAllById(Iterable<Long> ids);
+
+    @Query(VERSION_SELECT + "where b.id = :id")
+    Optional<EntityVersion> findVersionById(long id);
+
+    @Query(VERSION_SELECT)
+    Slice<EntityVersion> findVersionsBy(Pageable pageable);
+
+    @Query(value = VERSION_SELECT, countQuery = "select count(b) from Brand b")
+    Page<EntityVersion> findAllVersions(Pageable pageable);
+
+    @Query("select b.id from Brand b")
+    List<Long> findAllIds();
 }
@@ -1,9 +1,36 @@
 package com.example.customerbookingservice.data.repository;
 
 import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.projection.EntityVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
+    String VERSION_SELECT = """
+            select new com.example.customerbookingservice.data.projection.EntityVersion(c.id, c.updated)
+            from Customer c
+            """;
+
+    Slice<Customer> findAllBy(Pageable pageable);
+
+    @Query(VERSION_SELECT + "where c.id = :id")
+    Optional<EntityVersion> findVersionById(long id);
+
+    @Query(VERSION_SELECT)
+    Slice<EntityVersion> findVersionsBy(Pageable pageable);
+
+    @Query(value = VERSION_SELECT, countQuery = "select count(c) from Customer c")
+    Page<EntityVersion> findAllVersions(Pageable pageable);
+
+    @Query("select c.id from Customer c where c.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
 }
@@ -0,0 +1,22 @@
+package com.example.customerbookingservice.dto.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemDto<T> {
+    private int index;
+
+    private BatchItemStatus status;
+
+    private T data;
+
+    private Map<String, String> errors;
+}
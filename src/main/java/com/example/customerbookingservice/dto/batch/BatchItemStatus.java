@@ -0,0 +1,5 @@
+package com.example.customerbookingservice.dto.batch;
+
+public enum BatchItemStatus {
+    CREATED, FAILED, SKIPPED
+}
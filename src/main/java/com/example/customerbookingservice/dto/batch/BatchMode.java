@@ -0,0 +1,24 @@
+package com.example.customerbookingservice.dto.batch;
+
+import com.example.customerbookingservice.exception.BadRequestException;
+
+import java.util.Locale;
+
+public enum BatchMode {
+    /**
+     * Nothing is created unless every item is valid.
+     */
+    ALL_OR_NOTHING,
+    /**
+     * Valid items are created, invalid ones are reported and skipped.
+     */
+    BEST_EFFORT;
+
+    public static BatchMode from(String mode) {
+        try {
+            return valueOf(mode.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported batch mode: " + mode, e);
+        }
+    }
+}
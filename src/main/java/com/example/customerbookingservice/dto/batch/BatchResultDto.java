@@ -0,0 +1,22 @@
+package com.example.customerbookingservice.dto.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultDto<T> {
+    private BatchMode mode;
+
+    private int created;
+
+    private int failed;
+
+    private List<BatchItemDto<T>> items;
+}
@@ -0,0 +1,24 @@
+package com.example.customerbookingservice.dto.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiGetResultDto<T> {
+    /**
+     * Found items in the order their ids were requested.
+     */
+    private List<T> items;
+
+    /**
+     * Requested ids that don't exist, in request order.
+     */
+    private List<Long> missingIds;
+}
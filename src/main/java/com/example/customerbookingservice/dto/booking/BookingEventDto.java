@@ -0,0 +1,27 @@
+package com.example.customerbookingservice.dto.booking;
+
+import com.example.customerbookingservice.data.enums.BookingEventType;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingEventDto {
+    private long eventId;
+    private BookingEventType type;
+    private long bookingId;
+    private Long customerId;
+    private Long brandId;
+    private BookingStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDateTime occurredAt;
+}
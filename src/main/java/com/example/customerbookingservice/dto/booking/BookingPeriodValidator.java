@@ -0,0 +1,21 @@
+package com.example.customerbookingservice.dto.booking;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class BookingPeriodValidator implements ConstraintValidator<ValidBookingPeriod, CreateBookingDto> {
+
+    @Override
+    public boolean isValid(CreateBookingDto booking, ConstraintValidatorContext context) {
+        if (booking == null || booking.getStartDate() == null || booking.getEndDate() == null
+                || !booking.getEndDate().isBefore(booking.getStartDate())) {
+            return true;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("endDate")
+                .addConstraintViolation();
+        return false;
+    }
+}
@@ -14,6 +14,7 @@ import java.time.LocalDate;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@ValidBookingPeriod
 public class CreateBookingDto {
     @NotBlank(message = "Title is required")
     private String title;
@@ -31,4 +32,7 @@ public class CreateBookingDto {
 
     @Min(value = 1, message = "Value must be a positive number.")
     private long customerId;
+
+    @Min(value = 1, message = "Value must be a positive number.")
+    private Long brandId;
 }
@@ -0,0 +1,24 @@
+package com.example.customerbookingservice.dto.booking;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The end date of a booking must not be before its start date; the database can't build a period from such a row.
+ * Reported on {@code endDate} so it shows up next to the other field errors.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = BookingPeriodValidator.class)
+public @interface ValidBookingPeriod {
+    String message() default "End Date must not be before Start Date";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
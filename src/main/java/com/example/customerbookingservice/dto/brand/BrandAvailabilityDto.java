@@ -0,0 +1,22 @@
+package com.example.customerbookingservice.dto.brand;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BrandAvailabilityDto {
+    private long brandId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private boolean available;
+}
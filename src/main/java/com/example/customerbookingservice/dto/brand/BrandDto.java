@@ -23,4 +23,6 @@ public class BrandDto {
     private LocalDateTime updated;
 
     private String shortCode;
+
+    private long version;
 }
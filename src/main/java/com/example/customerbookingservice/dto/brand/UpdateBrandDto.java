@@ -27,4 +27,6 @@ public class UpdateBrandDto {
     @NotBlank(message = "Short Code is required")
     @Size(max = 3, message = "Name can't exceed 3 characters")
     private String shortCode;
+
+    private Long version;
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ public class CustomerDto {
 
     private int age;
 
+    private long version;
+
     private LocalDateTime created;
 
     private LocalDateTime updated;
@@ -27,4 +27,6 @@ public class UpdateCustomerDto {
 
     @Min(value = 1, message = "Value must be a positive number.")
     private int age;
+
+    private Long version;
 }
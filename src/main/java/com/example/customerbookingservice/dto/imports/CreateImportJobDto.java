@@ -0,0 +1,23 @@
+package com.example.customerbookingservice.dto.imports;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateImportJobDto {
+    @NotNull(message = "Type is required")
+    private ImportType type;
+
+    @NotEmpty(message = "At least one file is required")
+    private List<@NotBlank(message = "File name is required") String> files;
+}
@@ -0,0 +1,28 @@
+package com.example.customerbookingservice.dto.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportFileDto {
+    private String file;
+
+    private ImportState state;
+
+    private long rowsRead;
+
+    private long rowsRejected;
+
+    private long rowsStaged;
+
+    private long rowsMerged;
+
+    private List<String> errors;
+}
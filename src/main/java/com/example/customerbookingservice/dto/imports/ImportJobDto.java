@@ -0,0 +1,27 @@
+package com.example.customerbookingservice.dto.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDto {
+    private String id;
+
+    private ImportType type;
+
+    private ImportState state;
+
+    private LocalDateTime started;
+
+    private LocalDateTime finished;
+
+    private List<ImportFileDto> files;
+}
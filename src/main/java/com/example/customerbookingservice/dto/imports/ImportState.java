@@ -0,0 +1,5 @@
+package com.example.customerbookingservice.dto.imports;
+
+public enum ImportState {
+    QUEUED, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,15 @@
+package com.example.customerbookingservice.exception;
+
+/**
+ * Invalid client input that bean validation can't express. Mapped to 400 with its message as the detail, so the message
+ * must be safe to show to clients.
+ */
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,22 +2,42 @@ package com.example.customerbookingservice.exception;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.util.PSQLException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLException;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RestControllerAdvice
 @RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+    private static final String FOREIGN_KEY_VIOLATION_SQL_STATE = "23503";
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+    /**
+     * Foreign keys of the booking table, named the same by the Liquibase changelog and the entity mappings. Both are
+     * {@code ON DELETE CASCADE} or {@code SET NULL}, so deleting a customer or brand never violates them; a violation
+     * can only come from a booking written with a customer or brand id that doesn't exist.
+     */
+    private static final Map<String, String> MISSING_REFERENCE_DETAILS = Map.of(
+            "fk_booking_customer", "Customer not found",
+            "fk_booking_brand", "Brand not found");
 
     private static ProblemDetail createProblemDetail(HttpStatus status, String title, String detail, Map<String, Object> properties) {
         ProblemDetail problemDetail = ProblemDetail.forStatus(status);
@@ -28,6 +48,36 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    private static boolean hasSqlState(Throwable ex, String sqlState) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlState.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Keys on the constraint field of the server error, which doesn't depend on {@code lc_messages}.
+     *
+     * @return the not-found detail for a foreign key pointing at a missing row, or {@code null}. Batched inserts report
+     * the server error through {@link SQLException#getNextException()}, so that chain is searched as well.
+     */
+    private static String findMissingReference(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            for (Throwable error = cause; error != null;
+                 error = error instanceof SQLException sqlException ? sqlException.getNextException() : null) {
+                if (error instanceof PSQLException psqlException && psqlException.getServerErrorMessage() != null) {
+                    var serverError = psqlException.getServerErrorMessage();
+                    if (MISSING_REFERENCE_DETAILS.containsKey(serverError.getConstraint())) {
+                        return MISSING_REFERENCE_DETAILS.get(serverError.getConstraint());
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ProblemDetail handleValidationErrors(MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -50,6 +100,137 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ProblemDetail handleConstraintViolation(ConstraintViolationException ex, HttpServletRequest request) {
+        Map<String, String> errors = ex.getConstraintViolations()
+                .stream()
+                .collect(Collectors.toMap(
+                        violation -> violation.getPropertyPath().toString(),
+                        ConstraintViolation::getMessage,
+                        (existing, replacement) -> replacement
+                ));
+
+        return createProblemDetail(
+                HttpStatus.BAD_REQUEST,
+                "Validation Failed",
+                "One or more validation errors occurred.",
+                Map.of(
+                        "path", request.getRequestURI(),
+                        "errors", errors
+                ));
+    }
+
+    /**
+     * Bodies that can't be parsed are a 400 without the parser's message; a body cut off by a size limit is a 413.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ProblemDetail handleMessageNotReadable(HttpServletRequest request, HttpMessageNotReadableException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RequestTooLargeException tooLarge) {
+                return createProblemDetail(
+                        HttpStatus.PAYLOAD_TOO_LARGE,
+                        "Payload too large",
+                        tooLarge.getMessage(),
+                        Map.of("path", request.getRequestURI()));
+            }
+        }
+
+        return createProblemDetail(
+                HttpStatus.BAD_REQUEST,
+                "Bad Request",
+                "Request body is missing or malformed",
+                Map.of(
+                        "exception", ex.getClass().getSimpleName(),
+                        "path", request.getRequestURI()
+                ));
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ProblemDetail handleBadRequest(HttpServletRequest request, BadRequestException ex) {
+        return createProblemDetail(
+                HttpStatus.BAD_REQUEST,
+                "Bad Request",
+                ex.getMessage(),
+                Map.of(
+                        "exception", ex.getClass().getSimpleName(),
+                        "path", request.getRequestURI()
+                ));
+    }
+
+    /**
+     * A foreign key pointing at a missing row means the client referenced something that doesn't exist, so it is a
+     * 404; a row that is still referenced by others stays a 409.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ProblemDetail handleDataIntegrityViolation(HttpServletRequest request, DataIntegrityViolationException ex) {
+        var missingReference = hasSqlState(ex, FOREIGN_KEY_VIOLATION_SQL_STATE) ? findMissingReference(ex) : null;
+        if (missingReference != null) {
+            return createProblemDetail(
+                    HttpStatus.NOT_FOUND,
+                    "Entity not found",
+                    missingReference,
+                    Map.of(
+                            "exception", ex.getClass().getSimpleName(),
+                            "path", request.getRequestURI()
+                    ));
+        }
+
+        // The driver message names constraints and echoes key values, so it only goes to the log.
+        log.info("Data integrity violation on {}: {}", request.getRequestURI(), ex.getMostSpecificCause().getMessage());
+        String title;
+        String detail;
+        if (hasSqlState(ex, EXCLUSION_VIOLATION_SQL_STATE)) {
+            title = "Booking overlaps an existing booking";
+            detail = "The brand already has an active booking in this period";
+        } else if (hasSqlState(ex, FOREIGN_KEY_VIOLATION_SQL_STATE)) {
+            title = "Data integrity violation";
+            detail = "The resource is still referenced by other resources";
+        } else if (hasSqlState(ex, UNIQUE_VIOLATION_SQL_STATE)) {
+            title = "Data integrity violation";
+            detail = "A resource with the same unique value already exists";
+        } else {
+            title = "Data integrity violation";
+            detail = "The request conflicts with the current state of the data";
+        }
+
+        return createProblemDetail(
+                HttpStatus.CONFLICT,
+                title,
+                detail,
+                Map.of(
+                        "exception", ex.getClass().getSimpleName(),
+                        "path", request.getRequestURI()
+                ));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ProblemDetail handleOptimisticLockingFailure(HttpServletRequest request, OptimisticLockingFailureException ex) {
+        return createProblemDetail(
+                HttpStatus.CONFLICT,
+                "Conflict",
+                "Resource was modified concurrently, reload it and retry",
+                Map.of(
+                        "exception", ex.getClass().getSimpleName(),
+                        "path", request.getRequestURI()
+                ));
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ProblemDetail handlePreconditionFailed(HttpServletRequest request, PreconditionFailedException ex) {
+        return createProblemDetail(
+                HttpStatus.PRECONDITION_FAILED,
+                "Precondition failed",
+                ex.getMessage(),
+                Map.of(
+                        "exception", ex.getClass().getSimpleName(),
+                        "path", request.getRequestURI()
+                ));
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ProblemDetail handleAllExceptions(HttpServletRequest request, Exception ex) {
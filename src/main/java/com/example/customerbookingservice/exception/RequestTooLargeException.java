@@ -0,0 +1,13 @@
+package com.example.customerbookingservice.exception;
+
+import java.io.IOException;
+
+/**
+ * Thrown while reading a request body that passed its size limit. An {@link IOException} so it can surface from the
+ * body stream; Spring wraps it in an {@code HttpMessageNotReadableException}.
+ */
+public class RequestTooLargeException extends IOException {
+    public RequestTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.customerbookingservice.mapper;
+
+import com.example.customerbookingservice.data.entity.Booking;
+import com.example.customerbookingservice.data.entity.BookingOutboxEvent;
+import com.example.customerbookingservice.data.enums.BookingEventType;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.BookingEventDto;
+import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookingMapper {
+    public BookingDto toDto(Booking booking) {
+        var brand = booking.getBrand();
+        return toDto(booking, brand == null ? null : brand.getName());
+    }
+
+    /**
+     * For bookings whose brand is an uninitialized reference: the name comes from the caller, so mapping doesn't
+     * load the brand.
+     */
+    public BookingDto toDto(Booking booking, String brandName) {
+        var customer = booking.getCustomer();
+
+        return BookingDto.builder()
+                .id(MappingUtils.toId(booking.getId()))
+                .title(booking.getTitle())
+                .description(booking.getDescription())
+                .status(booking.getStatus())
+                .created(booking.getCreated())
+                .updated(booking.getUpdated())
+                .startDate(booking.getStartDate())
+                .endDate(booking.getEndDate())
+                .brandName(brandName)
+                .customerId(customer == null ? 0 : MappingUtils.toId(customer.getId()))
+                .build();
+    }
+
+    public Booking toEntity(CreateBookingDto bookingDto) {
+        return Booking.builder()
+                .title(bookingDto.getTitle())
+                .description(bookingDto.getDescription())
+                .status(MappingUtils.toEnum(BookingStatus.class, bookingDto.getStatus()))
+                .startDate(bookingDto.getStartDate())
+                .endDate(bookingDto.getEndDate())
+                .build();
+    }
+
+    public BookingOutboxEvent toOutboxEvent(BookingEventType type, Booking booking) {
+        var brand = booking.getBrand();
+        var customer = booking.getCustomer();
+
+        return BookingOutboxEvent.builder()
+                .eventType(type)
+                .bookingId(MappingUtils.toId(booking.getId()))
+                .customerId(customer == null ? null : customer.getId())
+                .brandId(brand == null ? null : brand.getId())
+                .status(booking.getStatus())
+                .startDate(booking.getStartDate())
+                .endDate(booking.getEndDate())
+                .build();
+    }
+
+    public BookingEventDto toEventDto(BookingOutboxEvent event) {
+        return BookingEventDto.builder()
+                .eventId(MappingUtils.toId(event.getId()))
+                .type(event.getEventType())
+                .bookingId(event.getBookingId())
+                .customerId(event.getCustomerId())
+                .brandId(event.getBrandId())
+                .status(event.getStatus())
+                .startDate(event.getStartDate())
+                .endDate(event.getEndDate())
+                .occurredAt(event.getCreated())
+                .build();
+    }
+}
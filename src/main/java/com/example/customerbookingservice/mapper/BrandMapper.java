@@ -0,0 +1,40 @@
+package com.example.customerbookingservice.mapper;
+
+import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.dto.brand.BrandDto;
+import com.example.customerbookingservice.dto.brand.CreateBrandDto;
+import com.example.customerbookingservice.dto.brand.UpdateBrandDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BrandMapper {
+    public BrandDto toDto(Brand brand) {
+        return BrandDto.builder()
+                .id(MappingUtils.toId(brand.getId()))
+                .name(brand.getName())
+                .address(brand.getAddress())
+                .created(brand.getCreated())
+                .updated(brand.getUpdated())
+                .shortCode(brand.getShortCode())
+                .version(brand.getVersion())
+                .build();
+    }
+
+    public UpdateBrandDto toUpdateDto(Brand brand) {
+        return UpdateBrandDto.builder()
+                .id(MappingUtils.toId(brand.getId()))
+                .name(brand.getName())
+                .address(brand.getAddress())
+                .shortCode(brand.getShortCode())
+                .version(brand.getVersion())
+                .build();
+    }
+
+    public Brand toEntity(CreateBrandDto brandDto) {
+        return Brand.builder()
+                .name(brandDto.getName())
+                .address(brandDto.getAddress())
+                .shortCode(brandDto.getShortCode())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.customerbookingservice.mapper;
+
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.CustomerStatus;
+import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
+import com.example.customerbookingservice.dto.customer.CustomerDto;
+import com.example.customerbookingservice.dto.customer.UpdateCustomerDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomerMapper {
+    public CustomerDto toDto(Customer customer) {
+        return CustomerDto.builder()
+                .id(MappingUtils.toId(customer.getId()))
+                .fullName(customer.getFullName())
+                .email(customer.getEmail())
+                .status(MappingUtils.toName(customer.getStatus()))
+                .age(customer.getAge())
+                .version(customer.getVersion())
+                .created(customer.getCreated())
+                .updated(customer.getUpdated())
+                .build();
+    }
+
+    public UpdateCustomerDto toUpdateDto(Customer customer) {
+        return UpdateCustomerDto.builder()
+                .id(MappingUtils.toId(customer.getId()))
+                .fullName(customer.getFullName())
+                .email(customer.getEmail())
+                .status(MappingUtils.toName(customer.getStatus()))
+                .age(customer.getAge())
+                .version(customer.getVersion())
+                .build();
+    }
+
+    public Customer toEntity(CreateCustomerDto customerDto) {
+        return Customer.builder()
+                .fullName(customerDto.getFullName())
+                .email(customerDto.getEmail())
+                .status(MappingUtils.toEnum(CustomerStatus.class, customerDto.getStatus()))
+                .age(customerDto.getAge())
+                .build();
+    }
+}
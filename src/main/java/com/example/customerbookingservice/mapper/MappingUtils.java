@@ -0,0 +1,29 @@
+package com.example.customerbookingservice.mapper;
+
+final class MappingUtils {
+    private MappingUtils() {
+    }
+
+    static long toId(Long id) {
+        return id == null ? 0 : id;
+    }
+
+    /**
+     * Unknown names map to {@code null}, which is how ModelMapper treated them before these mappers existed.
+     */
+    static <E extends Enum<E>> E toEnum(Class<E> type, String name) {
+        if (name == null) {
+            return null;
+        }
+
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    static String toName(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.customerbookingservice.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Read-only WebFlux + R2DBC endpoints, switched on with {@code app.reactive.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReactiveReadProperties.class)
+public class ReactiveReadConfig {
+
+    /**
+     * The pool stays inside the repository rather than being a {@link io.r2dbc.spi.ConnectionFactory} bean,
+     * which would auto-configure a second transaction manager next to the JPA one.
+     */
+    @Bean
+    ReactiveReadRepository reactiveReadRepository(ReactiveReadProperties properties) {
+        var r2dbc = properties.getR2dbc();
+        var options = ConnectionFactoryOptions.parse(r2dbc.getUrl())
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, r2dbc.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, r2dbc.getPassword())
+                .build();
+
+        return new ReactiveReadRepository(new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                        .maxSize(r2dbc.getMaxPoolSize())
+                        .build()));
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(ReactiveReadRepository reactiveReadRepository,
+                                                 ObjectMapper objectMapper,
+                                                 ReactiveReadProperties properties) {
+        var routes = new ReactiveReadHandler(reactiveReadRepository).routes();
+        return new ReactiveReadServer(routes, objectMapper, properties.getPort());
+    }
+}
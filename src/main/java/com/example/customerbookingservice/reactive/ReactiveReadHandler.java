@@ -0,0 +1,137 @@
+package com.example.customerbookingservice.reactive;
+
+import com.example.customerbookingservice.controller.CustomerController;
+import com.example.customerbookingservice.dto.booking.BookingCursor;
+import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.brand.BrandDto;
+import com.example.customerbookingservice.dto.customer.CustomerDto;
+import com.example.customerbookingservice.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reactive counterparts of the MVC listing endpoints. Rows are written as they arrive from R2DBC, as a JSON array or,
+ * when the client accepts {@code application/x-ndjson}, one object per line. Booking pages are the exception: the
+ * next cursor goes in a header, so their rows are collected first, which is bounded by {@link #MAX_PAGE_SIZE}.
+ */
+@RequiredArgsConstructor
+class ReactiveReadHandler {
+    static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final ReactiveReadRepository repository;
+
+    RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/api/customers", this::getCustomers)
+                .GET("/api/customers/{id}/bookings", this::getCustomerBookings)
+                .GET("/api/brands", this::getBrands)
+                .GET("/api/brands/{id}/bookings", this::getBrandBookings)
+                .build();
+    }
+
+    private Mono<ServerResponse> getCustomers(ServerRequest request) {
+        return handle(() -> {
+            int size = pageSize(request);
+            return ok(request, repository.findCustomers(size, offset(request, size)), CustomerDto.class);
+        });
+    }
+
+    private Mono<ServerResponse> getBrands(ServerRequest request) {
+        return handle(() -> {
+            int size = pageSize(request);
+            return ok(request, repository.findBrands(size, offset(request, size)), BrandDto.class);
+        });
+    }
+
+    private Mono<ServerResponse> getCustomerBookings(ServerRequest request) {
+        return handle(() -> {
+            int size = pageSize(request);
+            return bookingPage(request,
+                    repository.findCustomerBookings(id(request), cursor(request), size + 1), size);
+        });
+    }
+
+    private Mono<ServerResponse> getBrandBookings(ServerRequest request) {
+        return handle(() -> {
+            int size = pageSize(request);
+            return bookingPage(request,
+                    repository.findBrandBookings(id(request), cursor(request), size + 1), size);
+        });
+    }
+
+    private static Mono<ServerResponse> handle(Supplier<Mono<ServerResponse>> handler) {
+        return Mono.defer(handler).onErrorResume(BadRequestException.class, ex -> ServerResponse.badRequest()
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .bodyValue(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage())));
+    }
+
+    private static <T> Mono<ServerResponse> ok(ServerRequest request, Flux<T> body, Class<T> type) {
+        return ServerResponse.ok().contentType(contentType(request)).body(body, type);
+    }
+
+    /**
+     * {@code rows} holds one row more than the page size, the same as the MVC endpoints fetch, so a next page is
+     * detected without running a COUNT.
+     */
+    private static Mono<ServerResponse> bookingPage(ServerRequest request, Flux<BookingDto> rows, int pageSize) {
+        return rows.collectList().flatMap(bookings -> {
+            var response = ServerResponse.ok().contentType(contentType(request));
+            if (bookings.size() <= pageSize) {
+                return response.body(Flux.fromIterable(bookings), BookingDto.class);
+            }
+
+            var page = bookings.subList(0, pageSize);
+            var last = page.getLast();
+            return response
+                    .header(CustomerController.NEXT_CURSOR_HEADER,
+                            new BookingCursor(last.getStartDate(), last.getId()).encode())
+                    .body(Flux.fromIterable(page), BookingDto.class);
+        });
+    }
+
+    private static MediaType contentType(ServerRequest request) {
+        return request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+    }
+
+    private static long id(ServerRequest request) {
+        return parse("id", request.pathVariable("id"), Long::parseLong);
+    }
+
+    private static BookingCursor cursor(ServerRequest request) {
+        return request.queryParam("after").map(BookingCursor::decode).orElse(null);
+    }
+
+    private static int pageSize(ServerRequest request) {
+        var size = request.queryParam("size")
+                .map(value -> parse("size", value, Integer::parseInt))
+                .orElse(DEFAULT_PAGE_SIZE);
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
+    }
+
+    private static long offset(ServerRequest request, int size) {
+        int page = request.queryParam("page").map(value -> parse("page", value, Integer::parseInt)).orElse(0);
+        return (long) Math.max(page, 0) * size;
+    }
+
+    private static <T> T parse(String name, String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("'" + name + "' must be a number", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.customerbookingservice.reactive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties("app.reactive")
+public class ReactiveReadProperties {
+    private boolean enabled;
+
+    /**
+     * Port of the Netty server that serves the reactive endpoints; 0 picks a free port.
+     */
+    private int port = 8083;
+
+    private final R2dbc r2dbc = new R2dbc();
+
+    @Getter
+    @Setter
+    public static class R2dbc {
+        private String url;
+        private String username;
+        private String password;
+        private int maxPoolSize = 20;
+    }
+}
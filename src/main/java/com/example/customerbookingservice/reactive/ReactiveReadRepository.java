@@ -0,0 +1,131 @@
+package com.example.customerbookingservice.reactive;
+
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.dto.booking.BookingCursor;
+import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.brand.BrandDto;
+import com.example.customerbookingservice.dto.customer.CustomerDto;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+class ReactiveReadRepository implements DisposableBean {
+    private static final String BOOKING_SELECT = """
+            select b.id, b.title, b.description, b.status, b.created, b.updated,
+                   b.start_date, b.end_date, br.name as brand_name, b.customer_id
+            from booking b
+            left join brand br on br.id = b.brand_id
+            """;
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    ReactiveReadRepository(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    Flux<CustomerDto> findCustomers(int limit, long offset) {
+        return databaseClient.sql("""
+                        select id, full_name, email, status, age, version, created, updated
+                        from customer
+                        order by id
+                        limit :limit offset :offset
+                        """)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveReadRepository::toCustomerDto)
+                .all();
+    }
+
+    Flux<BrandDto> findBrands(int limit, long offset) {
+        return databaseClient.sql("""
+                        select id, name, address, short_code, version, created, updated
+                        from brand
+                        order by id
+                        limit :limit offset :offset
+                        """)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveReadRepository::toBrandDto)
+                .all();
+    }
+
+    Flux<BookingDto> findCustomerBookings(long customerId, BookingCursor after, int limit) {
+        return findBookings("b.customer_id", customerId, after, limit);
+    }
+
+    Flux<BookingDto> findBrandBookings(long brandId, BookingCursor after, int limit) {
+        return findBookings("b.brand_id", brandId, after, limit);
+    }
+
+    private Flux<BookingDto> findBookings(String ownerColumn, long ownerId, BookingCursor after, int limit) {
+        var seek = after == null ? "" : "and (b.start_date, b.id) > (:startDate, :afterId)\n";
+        var spec = databaseClient.sql(BOOKING_SELECT
+                        + "where " + ownerColumn + " = :ownerId\n"
+                        + seek
+                        + "order by b.start_date, b.id\n"
+                        + "limit :limit")
+                .bind("ownerId", ownerId)
+                .bind("limit", limit);
+        if (after != null) {
+            spec = spec.bind("startDate", after.startDate()).bind("afterId", after.id());
+        }
+        return spec.map(ReactiveReadRepository::toBookingDto).all();
+    }
+
+    private static CustomerDto toCustomerDto(Readable row) {
+        return CustomerDto.builder()
+                .id(toId(row.get("id", Long.class)))
+                .fullName(row.get("full_name", String.class))
+                .email(row.get("email", String.class))
+                .status(row.get("status", String.class))
+                .age(row.get("age", Integer.class))
+                .version(row.get("version", Long.class))
+                .created(row.get("created", LocalDateTime.class))
+                .updated(row.get("updated", LocalDateTime.class))
+                .build();
+    }
+
+    private static BrandDto toBrandDto(Readable row) {
+        return BrandDto.builder()
+                .id(toId(row.get("id", Long.class)))
+                .name(row.get("name", String.class))
+                .address(row.get("address", String.class))
+                .shortCode(row.get("short_code", String.class))
+                .version(row.get("version", Long.class))
+                .created(row.get("created", LocalDateTime.class))
+                .updated(row.get("updated", LocalDateTime.class))
+                .build();
+    }
+
+    private static BookingDto toBookingDto(Readable row) {
+        var status = row.get("status", String.class);
+        return BookingDto.builder()
+                .id(toId(row.get("id", Long.class)))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .status(status == null ? null : BookingStatus.valueOf(status))
+                .created(row.get("created", LocalDateTime.class))
+                .updated(row.get("updated", LocalDateTime.class))
+                .startDate(row.get("start_date", LocalDate.class))
+                .endDate(row.get("end_date", LocalDate.class))
+                .brandName(row.get("brand_name", String.class))
+                .customerId(toId(row.get("customer_id", Long.class)))
+                .build();
+    }
+
+    private static long toId(Long id) {
+        return id == null ? 0 : id;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.customerbookingservice.service;
+
+import com.example.customerbookingservice.dto.booking.BookingExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BookingExportService {
+    void exportCustomerBookings(long customerId, BookingExportFormat format, OutputStream out) throws IOException;
+
+    void exportBrandBookings(long brandId, BookingExportFormat format, OutputStream out) throws IOException;
+}
@@ -1,12 +1,18 @@
 package com.example.customerbookingservice.service;
 
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
 import com.example.customerbookingservice.dto.booking.BookingDto;
 import com.example.customerbookingservice.dto.booking.CreateBookingDto;
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 public interface BookingService {
     BookingDto createBooking(@Valid CreateBookingDto bookingDto);
 
+    BatchResultDto<BookingDto> createBookings(List<CreateBookingDto> bookingDtos, BatchMode mode);
+
     void deleteCustomer(long id);
 
     BookingDto addBrand(long id, long brandId);
@@ -1,24 +1,46 @@
 package com.example.customerbookingservice.service;
 
-import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.data.projection.EntityVersion;
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
+import com.example.customerbookingservice.dto.batch.MultiGetResultDto;
+import com.example.customerbookingservice.dto.booking.BookingPageDto;
+import com.example.customerbookingservice.dto.brand.BrandAvailabilityDto;
 import com.example.customerbookingservice.dto.brand.BrandDto;
 import com.example.customerbookingservice.dto.brand.CreateBrandDto;
 import com.example.customerbookingservice.dto.brand.UpdateBrandDto;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface BrandService {
-    List<BrandDto> getBrands(Pageable pageable);
+    Slice<BrandDto> getBrands(Pageable pageable, boolean withTotal);
 
     BrandDto getBrandById(long id);
 
+    MultiGetResultDto<BrandDto> getBrandsByIds(List<Long> ids);
+
+    EntityVersion getBrandVersion(long id);
+
+    Slice<EntityVersion> getBrandVersions(Pageable pageable, boolean withTotal);
+
     BrandDto createBrand(@Valid CreateBrandDto brandDto);
 
+    BatchResultDto<BrandDto> createBrands(List<CreateBrandDto> brandDtos, BatchMode mode);
+
     BrandDto updateBrand(@Valid UpdateBrandDto brandDto);
 
+    BrandDto patchBrand(long id, JsonNode patch);
+
     void deleteBrand(long id);
 
-    List<BookingDto> getBrandBookings(long id, Pageable pageable);
+    BookingPageDto getBrandBookings(long id, String after, int size);
+
+    BrandAvailabilityDto getBrandAvailability(long id, LocalDate from, LocalDate to);
+
+    BrandAvailabilityDto getNextFreeSlot(long id, LocalDate from, int days);
 }
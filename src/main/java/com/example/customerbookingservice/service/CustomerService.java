@@ -1,24 +1,40 @@
 package com.example.customerbookingservice.service;
 
-import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.data.projection.EntityVersion;
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
+import com.example.customerbookingservice.dto.batch.MultiGetResultDto;
+import com.example.customerbookingservice.dto.booking.BookingPageDto;
 import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
 import com.example.customerbookingservice.dto.customer.CustomerDto;
 import com.example.customerbookingservice.dto.customer.UpdateCustomerDto;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public interface CustomerService {
-    List<CustomerDto> getCustomers(Pageable pageable);
+    Slice<CustomerDto> getCustomers(Pageable pageable, boolean withTotal);
 
     CustomerDto getCustomerById(long id);
 
+    MultiGetResultDto<CustomerDto> getCustomersByIds(List<Long> ids);
+
+    EntityVersion getCustomerVersion(long id);
+
+    Slice<EntityVersion> getCustomerVersions(Pageable pageable, boolean withTotal);
+
     CustomerDto createCustomer(@Valid CreateCustomerDto customerDto);
 
+    BatchResultDto<CustomerDto> createCustomers(List<CreateCustomerDto> customerDtos, BatchMode mode);
+
     CustomerDto updateCustomer(@Valid UpdateCustomerDto customerDto);
 
+    CustomerDto patchCustomer(long id, JsonNode patch);
+
     void deleteCustomer(long id);
 
-    List<BookingDto> getCustomerBookings(long id, Pageable pageable);
+    BookingPageDto getCustomerBookings(long id, String after, int size);
 }
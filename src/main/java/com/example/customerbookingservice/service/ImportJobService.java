@@ -0,0 +1,11 @@
+package com.example.customerbookingservice.service;
+
+import com.example.customerbookingservice.dto.imports.CreateImportJobDto;
+import com.example.customerbookingservice.dto.imports.ImportJobDto;
+import jakarta.validation.Valid;
+
+public interface ImportJobService {
+    ImportJobDto startImport(@Valid CreateImportJobDto importDto);
+
+    ImportJobDto getImport(String id);
+}
@@ -0,0 +1,290 @@
+package com.example.customerbookingservice.service.availability;
+
+import com.example.customerbookingservice.data.entity.Booking;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.data.projection.BookingInterval;
+import com.example.customerbookingservice.data.repository.BookingRepository;
+import com.example.customerbookingservice.data.repository.BrandRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * In-process copy of every brand's ACTIVE booking periods, used to answer availability probes
+ * without a database round trip.
+ * <p>
+ * Reads go to an immutable {@link BrandTable} snapshot and never lock. Writers serialize on a
+ * single lock and publish a new snapshot; changes made inside a transaction are applied only
+ * after it commits. Loads from the database run outside the lock and are only swapped in if no
+ * other change was published meanwhile, so a slow query never holds up writers.
+ * <p>
+ * Only commits made on this node update the index. With several nodes, bookings written elsewhere
+ * are missing until the scheduled consistency check (every
+ * {@code availability.index.consistency-check-interval}) reloads the index, so availability
+ * answers can be stale for up to that interval. The database exclusion constraint still rejects
+ * overlapping bookings.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrandAvailabilityIndex {
+    private static final int MAX_OPTIMISTIC_LOADS = 3;
+
+    private final BookingRepository bookingRepository;
+    private final BrandRepository brandRepository;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, Long> bookingBrands = new HashMap<>();
+    private volatile BrandTable table = BrandTable.EMPTY;
+    private volatile long version;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean containsBrand(long brandId) {
+        return table.get(brandId) != null;
+    }
+
+    public boolean isAvailable(long brandId, LocalDate from, LocalDate to) {
+        return isAvailable(brandId, from.toEpochDay(), to.toEpochDay());
+    }
+
+    public boolean isAvailable(long brandId, long fromEpochDay, long toEpochDay) {
+        var intervals = table.get(brandId);
+        return intervals == null || !intervals.overlaps(fromEpochDay, toEpochDay);
+    }
+
+    public long firstFreeDay(long brandId, long fromEpochDay, int days) {
+        var intervals = table.get(brandId);
+        return intervals == null ? fromEpochDay : intervals.firstFreeStart(fromEpochDay, days);
+    }
+
+    public void brandSaved(long brandId) {
+        afterCommit(() -> write(() -> {
+            if (table.get(brandId) == null) {
+                table = table.with(brandId, BrandIntervals.EMPTY);
+            }
+        }));
+    }
+
+    public void brandDeleted(long brandId) {
+        afterCommit(() -> write(() -> {
+            var intervals = table.get(brandId);
+            if (intervals != null) {
+                for (long bookingId : intervals.bookingIds()) {
+                    bookingBrands.remove(bookingId);
+                }
+                table = table.without(brandId);
+            }
+        }));
+    }
+
+    public void bookingSaved(Booking booking) {
+        long bookingId = booking.getId();
+        var brand = booking.getBrand();
+        var interval = brand == null || booking.getStatus() != BookingStatus.ACTIVE
+                ? null
+                : new BookingInterval(bookingId, brand.getId(), booking.getStartDate(), booking.getEndDate());
+
+        afterCommit(() -> write(() -> {
+            removeBooking(bookingId);
+            if (interval != null && BrandIntervals.isNonEmpty(interval)) {
+                addBooking(interval);
+            }
+        }));
+    }
+
+    public void bookingDeleted(long bookingId) {
+        afterCommit(() -> write(() -> removeBooking(bookingId)));
+    }
+
+    /**
+     * Removes bookings the database deleted on its own, e.g. through {@code ON DELETE CASCADE}, in a single write.
+     */
+    public void bookingsDeleted(Collection<Long> bookingIds) {
+        if (!bookingIds.isEmpty()) {
+            afterCommit(() -> write(() -> bookingIds.forEach(this::removeBooking)));
+        }
+    }
+
+    /**
+     * Loads one brand from the database, for brands this node has not seen yet.
+     */
+    public void refreshBrand(long brandId) {
+        loadThenWrite(() -> bookingRepository.findActiveIntervalsByBrandId(brandId)
+                .stream()
+                .filter(BrandIntervals::isNonEmpty)
+                .toList(), intervals -> {
+            var current = table.get(brandId);
+            if (current != null) {
+                for (long bookingId : current.bookingIds()) {
+                    bookingBrands.remove(bookingId);
+                }
+            }
+
+            table = table.with(brandId, BrandIntervals.of(intervals));
+            intervals.forEach(interval -> bookingBrands.put(interval.bookingId(), brandId));
+            return null;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        try {
+            loadThenWrite(this::loadSnapshot, snapshot -> {
+                apply(snapshot);
+                return null;
+            });
+            ready = true;
+            log.info("Loaded availability index for {} brands", table.size());
+        } catch (DataAccessException ex) {
+            log.error("Could not load availability index, falling back to database queries", ex);
+        }
+    }
+
+    /**
+     * Compares the index with the database and replaces it when they differ.
+     * Runs in a read-write transaction so the comparison is made against the primary.
+     *
+     * @return the number of brands whose intervals did not match
+     */
+    @Transactional
+    @Scheduled(
+            fixedDelayString = "${availability.index.consistency-check-interval:PT10M}",
+            initialDelayString = "${availability.index.consistency-check-interval:PT10M}")
+    public int verifyConsistency() {
+        return loadThenWrite(this::loadSnapshot, snapshot -> {
+            var current = table;
+            var mismatches = (int) LongStream.concat(LongStream.of(snapshot.table().keys()), LongStream.of(current.keys()))
+                    .distinct()
+                    .filter(brandId -> !Objects.equals(snapshot.table().get(brandId), current.get(brandId)))
+                    .count();
+
+            if (mismatches > 0) {
+                log.warn("Availability index differed from the database for {} brands, reloading", mismatches);
+                apply(snapshot);
+            }
+            ready = true;
+            return mismatches;
+        });
+    }
+
+    private Snapshot loadSnapshot() {
+        var intervalsByBrand = bookingRepository.findActiveBrandIntervals()
+                .stream()
+                .filter(BrandIntervals::isNonEmpty)
+                .collect(Collectors.groupingBy(BookingInterval::brandId));
+
+        var snapshotBrands = new HashMap<Long, BrandIntervals>();
+        var snapshotBookings = new HashMap<Long, Long>();
+        for (Long brandId : brandRepository.findAllIds()) {
+            var intervals = intervalsByBrand.getOrDefault(brandId, List.of());
+            snapshotBrands.put(brandId, BrandIntervals.of(intervals));
+            intervals.forEach(interval -> snapshotBookings.put(interval.bookingId(), brandId));
+        }
+        return new Snapshot(BrandTable.of(snapshotBrands), snapshotBookings);
+    }
+
+    private void apply(Snapshot snapshot) {
+        bookingBrands.clear();
+        bookingBrands.putAll(snapshot.bookingBrands());
+        table = snapshot.table();
+    }
+
+    private void addBooking(BookingInterval interval) {
+        var current = table.get(interval.brandId());
+        var base = current == null ? BrandIntervals.EMPTY : current;
+        table = table.with(interval.brandId(), base.with(
+                interval.bookingId(), interval.startDate().toEpochDay(), interval.endDate().toEpochDay()));
+        bookingBrands.put(interval.bookingId(), interval.brandId());
+    }
+
+    private void removeBooking(long bookingId) {
+        var brandId = bookingBrands.remove(bookingId);
+        if (brandId == null) {
+            return;
+        }
+
+        var current = table.get(brandId);
+        if (current != null) {
+            table = table.with(brandId, current.without(bookingId));
+        }
+    }
+
+    private void write(Runnable change) {
+        writeLock.lock();
+        try {
+            change.run();
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code load} without the lock and applies its result under it, unless another change was published while
+     * loading: the result may predate that change and would overwrite it, so the load is repeated. After
+     * {@value #MAX_OPTIMISTIC_LOADS} conflicting loads, one more load runs under the lock.
+     */
+    private <S, R> R loadThenWrite(Supplier<S> load, Function<S, R> change) {
+        for (int attempt = 0; attempt < MAX_OPTIMISTIC_LOADS; attempt++) {
+            var seen = version;
+            var loaded = load.get();
+            writeLock.lock();
+            try {
+                if (version == seen) {
+                    version++;
+                    return change.apply(loaded);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        writeLock.lock();
+        try {
+            version++;
+            return change.apply(load.get());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Snapshot(BrandTable table, Map<Long, Long> bookingBrands) {
+    }
+}
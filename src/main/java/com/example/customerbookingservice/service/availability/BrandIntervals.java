@@ -0,0 +1,169 @@
+package com.example.customerbookingservice.service.availability;
+
+import com.example.customerbookingservice.data.projection.BookingInterval;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable set of half-open {@code [start, end)} day intervals of one brand, kept in primitive
+ * arrays sorted by start. Updates return a new instance, so readers never need a lock.
+ */
+final class BrandIntervals {
+    static final BrandIntervals EMPTY = new BrandIntervals(new long[0], new long[0], new long[0]);
+
+    private final long[] bookingIds;
+    private final long[] starts;
+    private final long[] ends;
+    // maxEnds[i] is the largest end among intervals 0..i, so overlap checks stay correct
+    // even if intervals were ever to overlap each other.
+    private final long[] maxEnds;
+
+    private BrandIntervals(long[] bookingIds, long[] starts, long[] ends) {
+        this.bookingIds = bookingIds;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = new long[ends.length];
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < ends.length; i++) {
+            max = Math.max(max, ends[i]);
+            maxEnds[i] = max;
+        }
+    }
+
+    /**
+     * Builds the set in one pass, ordered by start day and then booking id.
+     */
+    static BrandIntervals of(List<BookingInterval> intervals) {
+        var sorted = intervals.stream()
+                .filter(BrandIntervals::isNonEmpty)
+                .sorted(Comparator.comparing(BookingInterval::startDate).thenComparingLong(BookingInterval::bookingId))
+                .toList();
+
+        int n = sorted.size();
+        var bookingIds = new long[n];
+        var starts = new long[n];
+        var ends = new long[n];
+        for (int i = 0; i < n; i++) {
+            var interval = sorted.get(i);
+            bookingIds[i] = interval.bookingId();
+            starts[i] = interval.startDate().toEpochDay();
+            ends[i] = interval.endDate().toEpochDay();
+        }
+        return new BrandIntervals(bookingIds, starts, ends);
+    }
+
+    static boolean isNonEmpty(BookingInterval interval) {
+        return interval.startDate() != null
+                && interval.endDate() != null
+                && interval.startDate().isBefore(interval.endDate());
+    }
+
+    int size() {
+        return starts.length;
+    }
+
+    boolean overlaps(long from, long to) {
+        int i = lastStartBefore(to);
+        return i >= 0 && maxEnds[i] > from;
+    }
+
+    /**
+     * Returns the first day on or after {@code from} where {@code days} consecutive days are free.
+     */
+    long firstFreeStart(long from, int days) {
+        long candidate = from;
+        while (true) {
+            int i = lastStartBefore(candidate + days);
+            if (i < 0 || maxEnds[i] <= candidate) {
+                return candidate;
+            }
+            candidate = maxEnds[i];
+        }
+    }
+
+    BrandIntervals with(long bookingId, long start, long end) {
+        var base = without(bookingId);
+        int n = base.size();
+        int position = base.lastStartBefore(start) + 1;
+        while (position < n && base.starts[position] == start && base.bookingIds[position] < bookingId) {
+            position++;
+        }
+
+        var newIds = new long[n + 1];
+        var newStarts = new long[n + 1];
+        var newEnds = new long[n + 1];
+        insert(base.bookingIds, newIds, position, bookingId);
+        insert(base.starts, newStarts, position, start);
+        insert(base.ends, newEnds, position, end);
+        return new BrandIntervals(newIds, newStarts, newEnds);
+    }
+
+    BrandIntervals without(long bookingId) {
+        int index = indexOf(bookingId);
+        if (index < 0) {
+            return this;
+        }
+
+        return new BrandIntervals(remove(bookingIds, index), remove(starts, index), remove(ends, index));
+    }
+
+    long[] bookingIds() {
+        return bookingIds.clone();
+    }
+
+    private int indexOf(long bookingId) {
+        for (int i = 0; i < bookingIds.length; i++) {
+            if (bookingIds[i] == bookingId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lastStartBefore(long day) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private static void insert(long[] source, long[] target, int position, long value) {
+        System.arraycopy(source, 0, target, 0, position);
+        target[position] = value;
+        System.arraycopy(source, position, target, position + 1, source.length - position);
+    }
+
+    private static long[] remove(long[] source, int index) {
+        var target = new long[source.length - 1];
+        System.arraycopy(source, 0, target, 0, index);
+        System.arraycopy(source, index + 1, target, index, source.length - index - 1);
+        return target;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BrandIntervals other)) {
+            return false;
+        }
+        return Arrays.equals(bookingIds, other.bookingIds)
+                && Arrays.equals(starts, other.starts)
+                && Arrays.equals(ends, other.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(bookingIds) + Arrays.hashCode(starts);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.customerbookingservice.service.availability;
+
+import java.util.Map;
+
+/**
+ * Immutable open-addressing map from brand id to its intervals. Lookups take a primitive key,
+ * so probing availability does not box or allocate; writers publish a modified copy.
+ */
+final class BrandTable {
+    static final BrandTable EMPTY = new BrandTable(new long[8], new BrandIntervals[8], 0);
+
+    private final long[] keys;
+    private final BrandIntervals[] values;
+    private final int size;
+
+    private BrandTable(long[] keys, BrandIntervals[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Builds a table holding every entry in one pass, for loading a whole snapshot; {@link #with} copies the table on
+     * each call and is meant for single-brand writes.
+     */
+    static BrandTable of(Map<Long, BrandIntervals> entries) {
+        int capacity = EMPTY.keys.length;
+        while (entries.size() * 2 > capacity) {
+            capacity *= 2;
+        }
+
+        var table = new BrandTable(new long[capacity], new BrandIntervals[capacity], entries.size());
+        entries.forEach(table::put);
+        return table;
+    }
+
+    int size() {
+        return size;
+    }
+
+    BrandIntervals get(long brandId) {
+        int mask = keys.length - 1;
+        for (int slot = hash(brandId) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == brandId) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    BrandTable with(long brandId, BrandIntervals intervals) {
+        int mask = keys.length - 1;
+        for (int slot = hash(brandId) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == brandId) {
+                var newValues = values.clone();
+                newValues[slot] = intervals;
+                return new BrandTable(keys, newValues, size);
+            }
+        }
+
+        int capacity = keys.length;
+        while ((size + 1) * 2 > capacity) {
+            capacity *= 2;
+        }
+        var table = rebuild(capacity, Long.MIN_VALUE);
+        table.put(brandId, intervals);
+        return new BrandTable(table.keys, table.values, size + 1);
+    }
+
+    BrandTable without(long brandId) {
+        if (get(brandId) == null) {
+            return this;
+        }
+
+        var table = rebuild(keys.length, brandId);
+        return new BrandTable(table.keys, table.values, size - 1);
+    }
+
+    long[] keys() {
+        var result = new long[size];
+        int i = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (values[slot] != null) {
+                result[i++] = keys[slot];
+            }
+        }
+        return result;
+    }
+
+    private BrandTable rebuild(int capacity, long skippedKey) {
+        var table = new BrandTable(new long[capacity], new BrandIntervals[capacity], 0);
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (values[slot] != null && keys[slot] != skippedKey) {
+                table.put(keys[slot], values[slot]);
+            }
+        }
+        return table;
+    }
+
+    // Only used on a table that has not been published yet.
+    private void put(long brandId, BrandIntervals intervals) {
+        int mask = keys.length - 1;
+        int slot = hash(brandId) & mask;
+        while (values[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = brandId;
+        values[slot] = intervals;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
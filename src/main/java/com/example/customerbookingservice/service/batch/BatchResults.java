@@ -0,0 +1,79 @@
+package com.example.customerbookingservice.service.batch;
+
+import com.example.customerbookingservice.dto.batch.BatchItemDto;
+import com.example.customerbookingservice.dto.batch.BatchItemStatus;
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
+import com.example.customerbookingservice.dto.batch.MultiGetResultDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public final class BatchResults {
+    private BatchResults() {
+    }
+
+    /**
+     * Indexes of the items that have no errors, in request order.
+     */
+    public static List<Integer> validIndexes(List<Map<String, String>> errors) {
+        return IntStream.range(0, errors.size()).filter(i -> errors.get(i).isEmpty()).boxed().toList();
+    }
+
+    /**
+     * Whether anything should be written: always in best-effort mode, only for a fully valid batch otherwise.
+     */
+    public static boolean shouldCreate(BatchMode mode, List<Map<String, String>> errors, List<Integer> validIndexes) {
+        return !validIndexes.isEmpty() && (mode == BatchMode.BEST_EFFORT || validIndexes.size() == errors.size());
+    }
+
+    /**
+     * @param created the created items, keyed by their index in the request
+     */
+    public static <T> BatchResultDto<T> of(BatchMode mode, List<Map<String, String>> errors, Map<Integer, T> created) {
+        var items = new ArrayList<BatchItemDto<T>>(errors.size());
+        int failed = 0;
+        for (int i = 0; i < errors.size(); i++) {
+            var item = BatchItemDto.<T>builder().index(i);
+            if (!errors.get(i).isEmpty()) {
+                item.status(BatchItemStatus.FAILED).errors(errors.get(i));
+                failed++;
+            } else if (created.containsKey(i)) {
+                item.status(BatchItemStatus.CREATED).data(created.get(i));
+            } else {
+                item.status(BatchItemStatus.SKIPPED);
+            }
+            items.add(item.build());
+        }
+
+        return BatchResultDto.<T>builder()
+                .mode(mode)
+                .created(created.size())
+                .failed(failed)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * @param found the items that exist, keyed by id
+     */
+    public static <T> MultiGetResultDto<T> inRequestOrder(List<Long> ids, Map<Long, T> found) {
+        var items = new ArrayList<T>(found.size());
+        var missingIds = new ArrayList<Long>();
+        for (var id : ids) {
+            var item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return MultiGetResultDto.<T>builder()
+                .items(items)
+                .missingIds(missingIds)
+                .build();
+    }
+}
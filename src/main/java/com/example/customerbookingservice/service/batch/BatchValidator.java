@@ -0,0 +1,73 @@
+package com.example.customerbookingservice.service.batch;
+
+import com.example.customerbookingservice.exception.BadRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Validates batch items one by one, so a bad item can be reported without rejecting the whole request.
+ */
+@Component
+public class BatchValidator {
+    private final Validator validator;
+    private final int maxItems;
+
+    public BatchValidator(Validator validator, @Value("${app.batch.max-items:1000}") int maxItems) {
+        this.validator = validator;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * @return the field errors of each item, empty for valid items
+     */
+    public List<Map<String, String>> validate(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one item");
+        }
+        if (items.size() > maxItems) {
+            throw new BadRequestException("Batch can't exceed " + maxItems + " items");
+        }
+
+        return items.stream().map(this::validateItem).toList();
+    }
+
+    /**
+     * Checks the ids of a multi-get against the same limit as batch items.
+     *
+     * @return the distinct ids in request order
+     */
+    public List<Long> validateIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BadRequestException("At least one id is required");
+        }
+        if (ids.size() > maxItems) {
+            throw new BadRequestException("Can't fetch more than " + maxItems + " ids at once");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("Ids must not be empty");
+        }
+
+        return List.copyOf(new LinkedHashSet<>(ids));
+    }
+
+    private Map<String, String> validateItem(Object item) {
+        if (item == null) {
+            return Map.of("item", "Item is required");
+        }
+
+        return validator.validate(item).stream()
+                .collect(Collectors.toMap(
+                        violation -> violation.getPropertyPath().toString(),
+                        ConstraintViolation::getMessage,
+                        (existing, replacement) -> replacement
+                ));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.customerbookingservice.service.impl;
+
+import com.example.customerbookingservice.data.repository.BookingRepository;
+import com.example.customerbookingservice.data.repository.BrandRepository;
+import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.BookingExportFormat;
+import com.example.customerbookingservice.service.BookingExportService;
+import com.example.customerbookingservice.service.csv.CsvFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Writes a full booking history straight from a JDBC cursor to the response, one row at a time, so memory use
+ * doesn't grow with the number of bookings.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed("service.method")
+public class BookingExportServiceImpl implements BookingExportService {
+    private static final String CSV_HEADER = "id,title,description,status,created,updated,startDate,endDate,brandName,customerId";
+
+    private final CustomerRepository customerRepository;
+    private final BrandRepository brandRepository;
+    private final BookingRepository bookingRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCustomerBookings(long customerId, BookingExportFormat format, OutputStream out) throws IOException {
+        if (!customerRepository.existsById(customerId)) {
+            throw new EntityNotFoundException("Customer not found");
+        }
+
+        try (var rows = bookingRepository.streamByCustomerId(customerId)) {
+            write(rows, format, out);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBrandBookings(long brandId, BookingExportFormat format, OutputStream out) throws IOException {
+        if (!brandRepository.existsById(brandId)) {
+            throw new EntityNotFoundException("Brand not found");
+        }
+
+        try (var rows = bookingRepository.streamByBrandId(brandId)) {
+            write(rows, format, out);
+        }
+    }
+
+    private void write(Stream<BookingDto> rows, BookingExportFormat format, OutputStream out) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == BookingExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            rows.forEach(row -> {
+                try {
+                    writeRow(writer, row, format);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeRow(Writer writer, BookingDto row, BookingExportFormat format) throws IOException {
+        if (format == BookingExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(row));
+        } else {
+            writer.write(String.join(",",
+                    String.valueOf(row.getId()),
+                    CsvFormat.escape(row.getTitle()),
+                    CsvFormat.escape(row.getDescription()),
+                    CsvFormat.escape(row.getStatus()),
+                    CsvFormat.escape(row.getCreated()),
+                    CsvFormat.escape(row.getUpdated()),
+                    CsvFormat.escape(row.getStartDate()),
+                    CsvFormat.escape(row.getEndDate()),
+                    CsvFormat.escape(row.getBrandName()),
+                    String.valueOf(row.getCustomerId())));
+        }
+        writer.write('\n');
+    }
+}
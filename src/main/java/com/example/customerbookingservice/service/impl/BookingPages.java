@@ -0,0 +1,37 @@
+package com.example.customerbookingservice.service.impl;
+
+import com.example.customerbookingservice.dto.booking.BookingCursor;
+import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.BookingPageDto;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+final class BookingPages {
+    static final int MAX_PAGE_SIZE = 100;
+
+    private BookingPages() {
+    }
+
+    static int pageSize(int requested) {
+        return Math.clamp(requested, 1, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * One row more than the page size is fetched so we know whether a next page exists
+     * without running a COUNT.
+     */
+    static Limit fetchLimit(int pageSize) {
+        return Limit.of(pageSize + 1);
+    }
+
+    static BookingPageDto of(List<BookingDto> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new BookingPageDto(rows, null);
+        }
+
+        var page = rows.subList(0, pageSize);
+        var last = page.getLast();
+        return new BookingPageDto(page, new BookingCursor(last.getStartDate(), last.getId()).encode());
+    }
+}
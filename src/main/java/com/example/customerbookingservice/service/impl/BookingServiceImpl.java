@@ -1,49 +1,111 @@
 package com.example.customerbookingservice.service.impl;
 
 import com.example.customerbookingservice.data.entity.Booking;
+import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingEventType;
+import com.example.customerbookingservice.data.repository.BookingOutboxEventRepository;
 import com.example.customerbookingservice.data.repository.BookingRepository;
 import com.example.customerbookingservice.data.repository.BrandRepository;
 import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
 import com.example.customerbookingservice.dto.booking.BookingDto;
 import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.mapper.BookingMapper;
 import com.example.customerbookingservice.service.BookingService;
+import com.example.customerbookingservice.service.BrandService;
+import com.example.customerbookingservice.service.availability.BrandAvailabilityIndex;
+import com.example.customerbookingservice.service.batch.BatchResults;
+import com.example.customerbookingservice.service.batch.BatchValidator;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class BookingServiceImpl implements BookingService {
     private final CustomerRepository customerRepository;
     private final BookingRepository bookingRepository;
     private final BrandRepository brandRepository;
-    private final ModelMapper modelMapper;
+    private final BrandService brandService;
+    private final BookingOutboxEventRepository outboxEventRepository;
+    private final BookingMapper bookingMapper;
+    private final BrandAvailabilityIndex availabilityIndex;
+    private final BatchValidator batchValidator;
 
     @Override
+    @Transactional
     public BookingDto createBooking(CreateBookingDto bookingDto) {
-        var customer = customerRepository.findById(bookingDto.getCustomerId());
+        // Only the foreign key is needed, a missing customer fails the insert and is reported as 404
+        var booking = bookingMapper.toEntity(bookingDto);
+        booking.setCustomer(customerRepository.getReferenceById(bookingDto.getCustomerId()));
+        var brandName = bookingDto.getBrandId() == null ? null : assignBrand(booking, bookingDto.getBrandId());
+
+        var savedBooking = bookingRepository.save(booking);
+        outboxEventRepository.save(bookingMapper.toOutboxEvent(BookingEventType.BOOKING_CREATED, savedBooking));
+        availabilityIndex.bookingSaved(savedBooking);
+        return bookingMapper.toDto(savedBooking, brandName);
+    }
 
-        if (customer.isEmpty()) {
-            throw new EntityNotFoundException("Customer not found");
+    @Override
+    @Transactional
+    public BatchResultDto<BookingDto> createBookings(List<CreateBookingDto> bookingDtos, BatchMode mode) {
+        var resolution = resolveCustomers(bookingDtos, batchValidator.validate(bookingDtos));
+        var brands = resolveBrands(bookingDtos, resolution.errors());
+        var errors = brands.errors();
+        var customers = resolution.customers();
+        var validIndexes = BatchResults.validIndexes(errors);
+        var created = new HashMap<Integer, BookingDto>();
+        if (BatchResults.shouldCreate(mode, errors, validIndexes)) {
+            var bookings = validIndexes.stream().map(i -> {
+                var bookingDto = bookingDtos.get(i);
+                var booking = bookingMapper.toEntity(bookingDto);
+                booking.setCustomer(customers.get(bookingDto.getCustomerId()));
+                if (bookingDto.getBrandId() != null) {
+                    booking.setBrand(brands.brands().get(bookingDto.getBrandId()));
+                }
+                return booking;
+            }).toList();
+
+            var savedBookings = bookingRepository.saveAll(bookings);
+            outboxEventRepository.saveAll(savedBookings.stream()
+                    .map(booking -> bookingMapper.toOutboxEvent(BookingEventType.BOOKING_CREATED, booking))
+                    .toList());
+            for (int i = 0; i < savedBookings.size(); i++) {
+                var savedBooking = savedBookings.get(i);
+                availabilityIndex.bookingSaved(savedBooking);
+                created.put(validIndexes.get(i), bookingMapper.toDto(savedBooking));
+            }
         }
-        var booking = modelMapper.map(bookingDto, Booking.class);
-        booking.setId(null);
-        booking.setCustomer(customer.get());
 
-        return modelMapper.map(bookingRepository.save(booking), BookingDto.class);
+        return BatchResults.of(mode, errors, created);
     }
 
     @Override
+    @Transactional
     public void deleteCustomer(long id) {
-        if (!bookingRepository.existsById(id)) {
-            throw new EntityNotFoundException("Booking not found");
-        }
+        var booking = bookingRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Booking not found"));
 
-        bookingRepository.deleteById(id);
+        bookingRepository.delete(booking);
+        outboxEventRepository.save(bookingMapper.toOutboxEvent(BookingEventType.BOOKING_DELETED, booking));
+        availabilityIndex.bookingDeleted(id);
     }
 
     @Override
+    @Transactional
     public BookingDto addBrand(long id, long brandId) {
         var bookingOptional = bookingRepository.findById(id);
 
@@ -51,18 +113,79 @@ public class BookingServiceImpl implements BookingService {
             throw new EntityNotFoundException("Booking not found");
         }
 
-        var brandOptional = brandRepository.findById(brandId);
+        var booking = bookingOptional.get();
+        var brandName = assignBrand(booking, brandId);
+
+        bookingRepository.save(booking);
+        outboxEventRepository.save(bookingMapper.toOutboxEvent(BookingEventType.BOOKING_BRAND_ASSIGNED, booking));
+        availabilityIndex.bookingSaved(booking);
+
+        return bookingMapper.toDto(booking, brandName);
+    }
 
-        if (brandOptional.isEmpty()) {
-            throw new EntityNotFoundException("Brand not found");
+    /**
+     * Checks every referenced customer with one id-only {@code IN} query and adds an error to items whose customer
+     * is missing. Existing customers are only referenced, bookings just need their foreign key.
+     */
+    private CustomerResolution resolveCustomers(List<CreateBookingDto> bookingDtos, List<Map<String, String>> errors) {
+        var customerIds = BatchResults.validIndexes(errors).stream()
+                .map(i -> bookingDtos.get(i).getCustomerId())
+                .collect(Collectors.toSet());
+        var customers = customerRepository.findExistingIds(customerIds).stream()
+                .collect(Collectors.toMap(Function.identity(), customerRepository::getReferenceById));
+
+        var resolvedErrors = new ArrayList<Map<String, String>>(errors.size());
+        for (int i = 0; i < errors.size(); i++) {
+            if (errors.get(i).isEmpty() && !customers.containsKey(bookingDtos.get(i).getCustomerId())) {
+                resolvedErrors.add(Map.of("customerId", "Customer not found"));
+            } else {
+                resolvedErrors.add(errors.get(i));
+            }
         }
+        return new CustomerResolution(resolvedErrors, customers);
+    }
 
-        var booking = bookingOptional.get();
-        var brand = brandOptional.get();
+    /**
+     * Loads every referenced brand with one {@code IN} query, skipped when no item names a brand.
+     */
+    private BrandResolution resolveBrands(List<CreateBookingDto> bookingDtos, List<Map<String, String>> errors) {
+        var brandIds = BatchResults.validIndexes(errors).stream()
+                .map(i -> bookingDtos.get(i).getBrandId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (brandIds.isEmpty()) {
+            return new BrandResolution(errors, Map.of());
+        }
+        var brands = brandRepository.findAllById(brandIds).stream()
+                .collect(Collectors.toMap(Brand::getId, Function.identity()));
 
-        booking.setBrand(brand);
-        bookingRepository.save(booking);
+        var resolvedErrors = new ArrayList<Map<String, String>>(errors.size());
+        for (int i = 0; i < errors.size(); i++) {
+            var brandId = bookingDtos.get(i).getBrandId();
+            if (errors.get(i).isEmpty() && brandId != null && !brands.containsKey(brandId)) {
+                resolvedErrors.add(Map.of("brandId", "Brand not found"));
+            } else {
+                resolvedErrors.add(errors.get(i));
+            }
+        }
+        return new BrandResolution(resolvedErrors, brands);
+    }
+
+    /**
+     * Points {@code booking} at a brand reference. Existence and the name for the response come from the brand
+     * cache, so a cached brand costs no statement.
+     *
+     * @return the brand name
+     */
+    private String assignBrand(Booking booking, long brandId) {
+        var brand = brandService.getBrandById(brandId);
+        booking.setBrand(brandRepository.getReferenceById(brandId));
+        return brand.getName();
+    }
+
+    private record CustomerResolution(List<Map<String, String>> errors, Map<Long, Customer> customers) {
+    }
 
-        return modelMapper.map(booking, BookingDto.class);
+    private record BrandResolution(List<Map<String, String>> errors, Map<Long, Brand> brands) {
     }
 }
@@ -1,75 +1,230 @@
 package com.example.customerbookingservice.service.impl;
 
+import com.example.customerbookingservice.config.cache.CacheInvalidation;
+import com.example.customerbookingservice.config.cache.CacheInvalidationPublisher;
+import com.example.customerbookingservice.config.cache.CacheNames;
 import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.projection.EntityVersion;
 import com.example.customerbookingservice.data.repository.BookingRepository;
 import com.example.customerbookingservice.data.repository.BrandRepository;
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
+import com.example.customerbookingservice.dto.batch.MultiGetResultDto;
+import com.example.customerbookingservice.dto.booking.BookingCursor;
 import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.BookingPageDto;
+import com.example.customerbookingservice.dto.brand.BrandAvailabilityDto;
 import com.example.customerbookingservice.dto.brand.BrandDto;
 import com.example.customerbookingservice.dto.brand.CreateBrandDto;
 import com.example.customerbookingservice.dto.brand.UpdateBrandDto;
+import com.example.customerbookingservice.exception.BadRequestException;
+import com.example.customerbookingservice.mapper.BrandMapper;
 import com.example.customerbookingservice.service.BrandService;
+import com.example.customerbookingservice.service.availability.BrandAvailabilityIndex;
+import com.example.customerbookingservice.service.batch.BatchResults;
+import com.example.customerbookingservice.service.batch.BatchValidator;
+import com.example.customerbookingservice.service.patch.JsonMergePatch;
+import com.example.customerbookingservice.service.singleflight.SingleFlight;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class BrandServiceImpl implements BrandService {
     private final BrandRepository brandRepository;
     private final BookingRepository bookingRepository;
-    private final ModelMapper modelMapper;
+    private final BrandMapper brandMapper;
+    private final BrandAvailabilityIndex availabilityIndex;
+    private final BatchValidator batchValidator;
+    private final JsonMergePatch jsonMergePatch;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     @Override
-    public List<BrandDto> getBrands(Pageable pageable) {
-        return brandRepository.findAll(pageable)
-                .stream()
-                .map(brand -> modelMapper.map(brand, BrandDto.class))
-                .toList();
+    @Transactional(readOnly = true)
+    public Slice<BrandDto> getBrands(Pageable pageable, boolean withTotal) {
+        var brands = withTotal ? brandRepository.findAll(pageable) : brandRepository.findAllBy(pageable);
+        return brands.map(brandMapper::toDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.BRANDS, key = "#id")
+    @SingleFlight("brands")
     public BrandDto getBrandById(long id) {
         var brand = getBrand(id);
 
-        return modelMapper.map(brand, BrandDto.class);
+        return brandMapper.toDto(brand);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public MultiGetResultDto<BrandDto> getBrandsByIds(List<Long> ids) {
+        var distinctIds = batchValidator.validateIds(ids);
+        var found = new HashMap<Long, BrandDto>();
+        brandRepository.findAllById(distinctIds)
+                .forEach(brand -> found.put(brand.getId(), brandMapper.toDto(brand)));
+
+        return BatchResults.inRequestOrder(distinctIds, found);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EntityVersion getBrandVersion(long id) {
+        return brandRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Brand not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EntityVersion> getBrandVersions(Pageable pageable, boolean withTotal) {
+        return withTotal ? brandRepository.findAllVersions(pageable) : brandRepository.findVersionsBy(pageable);
+    }
+
+    @Override
+    @Transactional
     public BrandDto createBrand(CreateBrandDto brandDto) {
-        var brand = modelMapper.map(brandDto, Brand.class);
-        return modelMapper.map(brandRepository.save(brand), BrandDto.class);
+        var brand = brandMapper.toEntity(brandDto);
+        var savedBrand = brandRepository.save(brand);
+        availabilityIndex.brandSaved(savedBrand.getId());
+        return brandMapper.toDto(savedBrand);
     }
 
     @Override
+    @Transactional
+    public BatchResultDto<BrandDto> createBrands(List<CreateBrandDto> brandDtos, BatchMode mode) {
+        var errors = batchValidator.validate(brandDtos);
+        var validIndexes = BatchResults.validIndexes(errors);
+        var created = new HashMap<Integer, BrandDto>();
+        if (BatchResults.shouldCreate(mode, errors, validIndexes)) {
+            var brands = validIndexes.stream().map(i -> brandMapper.toEntity(brandDtos.get(i))).toList();
+            var savedBrands = brandRepository.saveAll(brands);
+            for (int i = 0; i < savedBrands.size(); i++) {
+                var savedBrand = savedBrands.get(i);
+                availabilityIndex.brandSaved(savedBrand.getId());
+                created.put(validIndexes.get(i), brandMapper.toDto(savedBrand));
+            }
+        }
+
+        return BatchResults.of(mode, errors, created);
+    }
+
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CacheNames.BRANDS, key = "#result.id")
     public BrandDto updateBrand(UpdateBrandDto brandDto) {
         var existingBrand = getBrand(brandDto.getId());
+        return applyUpdate(existingBrand, brandDto);
+    }
+
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CacheNames.BRANDS, key = "#id")
+    public BrandDto patchBrand(long id, JsonNode patch) {
+        var existingBrand = getBrand(id);
+        var brandDto = jsonMergePatch.apply(brandMapper.toUpdateDto(existingBrand), patch);
+        if (brandDto.getId() != id) {
+            throw new BadRequestException("Brand id can't be changed");
+        }
+
+        return applyUpdate(existingBrand, brandDto);
+    }
+
+    private BrandDto applyUpdate(Brand existingBrand, UpdateBrandDto brandDto) {
+        if (brandDto.getVersion() != null && brandDto.getVersion() != existingBrand.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(Brand.class, existingBrand.getId());
+        }
+
         existingBrand.setName(brandDto.getName());
         existingBrand.setAddress(brandDto.getAddress());
         existingBrand.setShortCode(brandDto.getShortCode());
 
-        var savedBrand = brandRepository.save(existingBrand);
-        return modelMapper.map(savedBrand, BrandDto.class);
+        var savedBrand = brandRepository.saveAndFlush(existingBrand);
+        cacheInvalidationPublisher.publish(CacheInvalidation.Entity.BRAND, savedBrand.getId());
+        return brandMapper.toDto(savedBrand);
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.BRANDS, key = "#id")
     public void deleteBrand(long id) {
         if (!brandRepository.existsById(id)) {
             throw new EntityNotFoundException("Brand not found");
         }
 
         brandRepository.deleteById(id);
+        availabilityIndex.brandDeleted(id);
+        cacheInvalidationPublisher.publish(CacheInvalidation.Entity.BRAND, id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPageDto getBrandBookings(long id, String after, int size) {
+        var pageSize = BookingPages.pageSize(size);
+        var limit = BookingPages.fetchLimit(pageSize);
+        var rows = after == null
+                ? bookingRepository.findPageByBrandId(id, limit)
+                : findBrandBookingsAfter(id, BookingCursor.decode(after), limit);
+
+        return BookingPages.of(rows, pageSize);
+    }
+
+    @Override
+    public BrandAvailabilityDto getBrandAvailability(long id, LocalDate from, LocalDate to) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+
+        if (!availabilityIndex.isReady()) {
+            if (!brandRepository.existsById(id)) {
+                throw new EntityNotFoundException("Brand not found");
+            }
+            return new BrandAvailabilityDto(id, from, to, bookingRepository.isBrandAvailable(id, from, to));
+        }
+
+        ensureIndexed(id);
+        return new BrandAvailabilityDto(id, from, to, availabilityIndex.isAvailable(id, from, to));
     }
 
     @Override
-    public List<BookingDto> getBrandBookings(long id, Pageable pageable) {
-        return bookingRepository.findByBrandId(id, pageable)
-                .stream()
-                .map(booking -> modelMapper.map(booking, BookingDto.class))
-                .toList();
+    public BrandAvailabilityDto getNextFreeSlot(long id, LocalDate from, int days) {
+        if (days < 1) {
+            throw new BadRequestException("'days' must be a positive number");
+        }
+
+        ensureIndexed(id);
+        var start = LocalDate.ofEpochDay(availabilityIndex.firstFreeDay(id, from.toEpochDay(), days));
+        return new BrandAvailabilityDto(id, start, start.plusDays(days), true);
+    }
+
+    private void ensureIndexed(long id) {
+        if (availabilityIndex.containsBrand(id)) {
+            return;
+        }
+
+        if (!brandRepository.existsById(id)) {
+            throw new EntityNotFoundException("Brand not found");
+        }
+        availabilityIndex.refreshBrand(id);
+    }
+
+    private List<BookingDto> findBrandBookingsAfter(long id, BookingCursor cursor, Limit limit) {
+        return bookingRepository.findPageByBrandIdAfter(id, cursor.startDate(), cursor.id(), limit);
     }
 
     private Brand getBrand(long id) {
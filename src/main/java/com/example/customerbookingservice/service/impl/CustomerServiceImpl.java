@@ -1,76 +1,184 @@
 package com.example.customerbookingservice.service.impl;
 
+import com.example.customerbookingservice.config.cache.CacheInvalidation;
+import com.example.customerbookingservice.config.cache.CacheInvalidationPublisher;
 import com.example.customerbookingservice.data.entity.Customer;
 import com.example.customerbookingservice.data.enums.CustomerStatus;
+import com.example.customerbookingservice.data.projection.EntityVersion;
 import com.example.customerbookingservice.data.repository.BookingRepository;
 import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
+import com.example.customerbookingservice.dto.batch.MultiGetResultDto;
+import com.example.customerbookingservice.dto.booking.BookingCursor;
 import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.BookingPageDto;
 import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
 import com.example.customerbookingservice.dto.customer.CustomerDto;
 import com.example.customerbookingservice.dto.customer.UpdateCustomerDto;
+import com.example.customerbookingservice.exception.BadRequestException;
+import com.example.customerbookingservice.mapper.CustomerMapper;
 import com.example.customerbookingservice.service.CustomerService;
+import com.example.customerbookingservice.service.availability.BrandAvailabilityIndex;
+import com.example.customerbookingservice.service.batch.BatchResults;
+import com.example.customerbookingservice.service.batch.BatchValidator;
+import com.example.customerbookingservice.service.patch.JsonMergePatch;
+import com.example.customerbookingservice.service.singleflight.SingleFlight;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class CustomerServiceImpl implements CustomerService {
     private final CustomerRepository customerRepository;
     private final BookingRepository bookingRepository;
-    private final ModelMapper modelMapper;
+    private final CustomerMapper customerMapper;
+    private final BatchValidator batchValidator;
+    private final JsonMergePatch jsonMergePatch;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final BrandAvailabilityIndex availabilityIndex;
 
     @Override
-    public List<CustomerDto> getCustomers(Pageable pageable) {
-        return customerRepository.findAll(pageable)
-                .stream()
-                .map(customer -> modelMapper.map(customer, CustomerDto.class))
-                .toList();
+    @Transactional(readOnly = true)
+    public Slice<CustomerDto> getCustomers(Pageable pageable, boolean withTotal) {
+        var customers = withTotal ? customerRepository.findAll(pageable) : customerRepository.findAllBy(pageable);
+        return customers.map(customerMapper::toDto);
     }
 
     @Override
+    @SingleFlight("customers")
+    @Transactional(readOnly = true)
     public CustomerDto getCustomerById(long id) {
         var customer = getCustomer(id);
-        return modelMapper.map(customer, CustomerDto.class);
+        return customerMapper.toDto(customer);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public MultiGetResultDto<CustomerDto> getCustomersByIds(List<Long> ids) {
+        var distinctIds = batchValidator.validateIds(ids);
+        var found = new HashMap<Long, CustomerDto>();
+        customerRepository.findAllById(distinctIds)
+                .forEach(customer -> found.put(customer.getId(), customerMapper.toDto(customer)));
+
+        return BatchResults.inRequestOrder(distinctIds, found);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EntityVersion getCustomerVersion(long id) {
+        return customerRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Customer not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EntityVersion> getCustomerVersions(Pageable pageable, boolean withTotal) {
+        return withTotal ? customerRepository.findAllVersions(pageable) : customerRepository.findVersionsBy(pageable);
+    }
+
+    @Override
+    @Transactional
     public CustomerDto createCustomer(CreateCustomerDto customerDto) {
-        var customer = modelMapper.map(customerDto, Customer.class);
-        return modelMapper.map(customerRepository.save(customer), CustomerDto.class);
+        var customer = customerMapper.toEntity(customerDto);
+        return customerMapper.toDto(customerRepository.save(customer));
     }
 
     @Override
+    @Transactional
+    public BatchResultDto<CustomerDto> createCustomers(List<CreateCustomerDto> customerDtos, BatchMode mode) {
+        var errors = batchValidator.validate(customerDtos);
+        var validIndexes = BatchResults.validIndexes(errors);
+        var created = new HashMap<Integer, CustomerDto>();
+        if (BatchResults.shouldCreate(mode, errors, validIndexes)) {
+            var customers = validIndexes.stream().map(i -> customerMapper.toEntity(customerDtos.get(i))).toList();
+            var savedCustomers = customerRepository.saveAll(customers);
+            for (int i = 0; i < savedCustomers.size(); i++) {
+                created.put(validIndexes.get(i), customerMapper.toDto(savedCustomers.get(i)));
+            }
+        }
+
+        return BatchResults.of(mode, errors, created);
+    }
+
+    @Override
+    @Transactional
     public CustomerDto updateCustomer(UpdateCustomerDto customerDto) {
         var existingCustomer = getCustomer(customerDto.getId());
+        return applyUpdate(existingCustomer, customerDto);
+    }
+
+    @Override
+    @Transactional
+    public CustomerDto patchCustomer(long id, JsonNode patch) {
+        var existingCustomer = getCustomer(id);
+        var customerDto = jsonMergePatch.apply(customerMapper.toUpdateDto(existingCustomer), patch);
+        if (customerDto.getId() != id) {
+            throw new BadRequestException("Customer id can't be changed");
+        }
+
+        return applyUpdate(existingCustomer, customerDto);
+    }
+
+    /**
+     * Only columns that actually changed are written ({@code @DynamicUpdate}); a stale {@code version} from the
+     * client, or a concurrent write detected at flush, surfaces as an optimistic locking failure.
+     */
+    private CustomerDto applyUpdate(Customer existingCustomer, UpdateCustomerDto customerDto) {
+        if (customerDto.getVersion() != null && customerDto.getVersion() != existingCustomer.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(Customer.class, existingCustomer.getId());
+        }
+
         existingCustomer.setFullName(customerDto.getFullName());
         existingCustomer.setStatus(CustomerStatus.valueOf(customerDto.getStatus()));
         existingCustomer.setEmail(customerDto.getEmail());
         existingCustomer.setAge(customerDto.getAge());
 
-        var savedCustomer = customerRepository.save(existingCustomer);
-        return modelMapper.map(savedCustomer, CustomerDto.class);
+        var savedCustomer = customerRepository.saveAndFlush(existingCustomer);
+        cacheInvalidationPublisher.publish(CacheInvalidation.Entity.CUSTOMER, savedCustomer.getId());
+        return customerMapper.toDto(savedCustomer);
     }
 
     @Override
+    @Transactional
     public void deleteCustomer(long id) {
         if (!customerRepository.existsById(id)) {
             throw new EntityNotFoundException("Customer not found");
         }
 
+        // The customer's bookings go with it through ON DELETE CASCADE, which the availability index never sees
+        var brandedBookingIds = bookingRepository.findBrandedIdsByCustomerId(id);
         customerRepository.deleteById(id);
+        availabilityIndex.bookingsDeleted(brandedBookingIds);
+        cacheInvalidationPublisher.publish(CacheInvalidation.Entity.CUSTOMER, id);
     }
 
     @Override
-    public List<BookingDto> getCustomerBookings(long id, Pageable pageable) {
-        return bookingRepository.findByCustomerId(id, pageable)
-                .stream()
-                .map(booking -> modelMapper.map(booking, BookingDto.class))
-                .toList();
+    @Transactional(readOnly = true)
+    public BookingPageDto getCustomerBookings(long id, String after, int size) {
+        var pageSize = BookingPages.pageSize(size);
+        var limit = BookingPages.fetchLimit(pageSize);
+        var rows = after == null
+                ? bookingRepository.findPageByCustomerId(id, limit)
+                : findCustomerBookingsAfter(id, BookingCursor.decode(after), limit);
+
+        return BookingPages.of(rows, pageSize);
+    }
+
+    private List<BookingDto> findCustomerBookingsAfter(long id, BookingCursor cursor, Limit limit) {
+        return bookingRepository.findPageByCustomerIdAfter(id, cursor.startDate(), cursor.id(), limit);
     }
 
     private Customer getCustomer(long id) {
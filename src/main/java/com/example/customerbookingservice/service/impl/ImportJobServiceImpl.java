@@ -0,0 +1,120 @@
+package com.example.customerbookingservice.service.impl;
+
+import com.example.customerbookingservice.dto.imports.CreateImportJobDto;
+import com.example.customerbookingservice.dto.imports.ImportJobDto;
+import com.example.customerbookingservice.dto.imports.ImportType;
+import com.example.customerbookingservice.exception.BadRequestException;
+import com.example.customerbookingservice.service.ImportJobService;
+import com.example.customerbookingservice.service.imports.CsvCopyLoader;
+import com.example.customerbookingservice.service.imports.ImportFileProgress;
+import com.example.customerbookingservice.service.imports.ImportJob;
+import com.example.customerbookingservice.service.imports.ImportTarget;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs CSV imports in the background, one file per thread. Job status is kept in memory, so it is only visible
+ * on the node that runs the job and is lost on restart.
+ */
+@Slf4j
+@Service
+public class ImportJobServiceImpl implements ImportJobService, DisposableBean {
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final Map<ImportType, ImportTarget<?>> targets;
+    private final CsvCopyLoader loader;
+    private final Path directory;
+    private final ExecutorService executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobServiceImpl(List<ImportTarget<?>> targets,
+                                CsvCopyLoader loader,
+                                @Value("${app.import.directory}") Path directory,
+                                @Value("${app.import.parallelism:0}") int parallelism) {
+        this.targets = targets.stream().collect(Collectors.toMap(ImportTarget::type, Function.identity()));
+        this.loader = loader;
+        this.directory = directory.toAbsolutePath().normalize();
+        var threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("import-", 1).factory());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ImportJobDto startImport(CreateImportJobDto importDto) {
+        var target = targets.get(importDto.getType());
+        var files = importDto.getFiles().stream()
+                .map(file -> new ImportFileProgress(file, resolve(file)))
+                .toList();
+
+        var job = new ImportJob(importDto.getType(), files);
+        evictFinishedJobs();
+        jobs.put(job.id(), job);
+        for (var file : job.files()) {
+            executor.execute(() -> run(job, target, file));
+        }
+        return job.toDto();
+    }
+
+    @Override
+    public ImportJobDto getImport(String id) {
+        var job = jobs.get(id);
+        if (job == null) {
+            throw new EntityNotFoundException("Import not found");
+        }
+        return job.toDto();
+    }
+
+    private void run(ImportJob job, ImportTarget<?> target, ImportFileProgress file) {
+        file.running();
+        try {
+            loader.load(target, file);
+            file.completed();
+            log.info("Imported {}: {}", file.path().getFileName(), file.toDto());
+        } catch (Exception e) {
+            log.error("Import of {} failed", file.path(), e);
+            file.failed(e.getMessage());
+        } finally {
+            job.fileFinished();
+        }
+    }
+
+    private Path resolve(String file) {
+        var path = directory.resolve(file).normalize();
+        if (!path.startsWith(directory)) {
+            throw new BadRequestException("File must be inside the import directory: " + file);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new BadRequestException("File not found: " + file);
+        }
+        return path;
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() < MAX_RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(ImportJob::isFinished)
+                .sorted(Comparator.comparing(ImportJob::started))
+                .limit(jobs.size() - MAX_RETAINED_JOBS + 1L)
+                .forEach(job -> jobs.remove(job.id()));
+    }
+}
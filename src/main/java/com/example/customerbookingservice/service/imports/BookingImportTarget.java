@@ -0,0 +1,86 @@
+package com.example.customerbookingservice.service.imports;
+
+import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.dto.imports.ImportType;
+import com.example.customerbookingservice.mapper.BookingMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports CSV files with the header {@code title,description,status,startDate,endDate,customerId}. Rows whose
+ * customer doesn't exist are dropped during the merge. Every imported booking gets a {@code BOOKING_CREATED}
+ * outbox event, as if it had been created through the API.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingImportTarget implements ImportTarget<CreateBookingDto> {
+    private static final String MERGE_SQL = """
+            with numbered as (
+                select s.*, row_number() over (order by s.line) - 1 as rn
+                from {staging} s
+                where exists (select 1 from customer c where c.id = s.customer_id)
+            ), blocks as (
+                select block, nextval('booking_seq') as lo
+                from generate_series(0, ceil((select count(*) from numbered) / {block}.0)::int - 1) as block
+            ), inserted as (
+                insert into booking (id, title, description, status, start_date, end_date, customer_id, created, updated)
+                select b.lo + n.rn % {block}, n.title, n.description, n.status, n.start_date, n.end_date,
+                       n.customer_id, now(), now()
+                from numbered n
+                join blocks b on b.block = n.rn / {block}
+                returning id, status, start_date, end_date, customer_id
+            ), events as (
+                select i.*, row_number() over (order by i.id) - 1 as rn
+                from inserted i
+            ), event_blocks as (
+                select block, nextval('booking_outbox_event_seq') as lo
+                from generate_series(0, ceil((select count(*) from numbered) / {block}.0)::int - 1) as block
+            )
+            insert into booking_outbox_event (id, event_type, booking_id, customer_id, status, start_date, end_date,
+                                              created, updated)
+            select eb.lo + e.rn % {block}, 'BOOKING_CREATED', e.id, e.customer_id, e.status, e.start_date, e.end_date,
+                   now(), now()
+            from events e
+            join event_blocks eb on eb.block = e.rn / {block}
+            """;
+
+    private final BookingMapper bookingMapper;
+
+    @Override
+    public ImportType type() {
+        return ImportType.BOOKINGS;
+    }
+
+    @Override
+    public String stagingColumns() {
+        return "title text, description text, status text, start_date date, end_date date, customer_id bigint";
+    }
+
+    @Override
+    public CreateBookingDto parse(Map<String, String> row) {
+        return CreateBookingDto.builder()
+                .title(ImportValues.text(row, "title"))
+                .description(ImportValues.text(row, "description"))
+                .status(ImportValues.text(row, "status"))
+                .startDate(ImportValues.date(row, "startDate"))
+                .endDate(ImportValues.date(row, "endDate"))
+                .customerId(ImportValues.longValue(row, "customerId"))
+                .build();
+    }
+
+    @Override
+    public List<Object> stagingValues(CreateBookingDto dto) {
+        var booking = bookingMapper.toEntity(dto);
+        return Arrays.asList(booking.getTitle(), booking.getDescription(), booking.getStatus(),
+                booking.getStartDate(), booking.getEndDate(), dto.getCustomerId());
+    }
+
+    @Override
+    public String mergeSql() {
+        return MERGE_SQL;
+    }
+}
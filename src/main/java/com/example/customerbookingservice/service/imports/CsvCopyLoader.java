@@ -0,0 +1,191 @@
+package com.example.customerbookingservice.service.imports;
+
+import com.example.customerbookingservice.service.csv.CsvFormat;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Loads one CSV file: valid rows are streamed through {@code COPY} into a temporary staging table, which is then
+ * merged into the target tables in one transaction and dropped.
+ * <p>
+ * The staging table is private to the loading connection, so imports on other nodes can't collide with it and
+ * Postgres drops it with the session if the node dies mid-import. The random suffix keeps a table left behind on a
+ * pooled connection from breaking the next import on it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CsvCopyLoader {
+    private static final int COPY_CHUNK_CHARS = 1 << 16;
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+
+    private final DataSource dataSource;
+    private final Validator validator;
+
+    public <D> void load(ImportTarget<D> target, ImportFileProgress progress) throws IOException, SQLException {
+        var stagingTable = "import_staging_" + UUID.randomUUID().toString().replace("-", "");
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            try {
+                execute(connection, "create temporary table " + stagingTable
+                        + " (line bigint not null, " + target.stagingColumns() + ")");
+                copy(connection, target, stagingTable, progress);
+                execute(connection, "analyze " + stagingTable);
+                merge(connection, target, stagingTable, progress);
+            } finally {
+                drop(connection, stagingTable);
+            }
+        }
+    }
+
+    /**
+     * Doesn't throw, so a failed drop can't hide the error that ended the import.
+     */
+    private static void drop(Connection connection, String stagingTable) {
+        try {
+            execute(connection, "drop table if exists " + stagingTable);
+        } catch (SQLException e) {
+            log.warn("Failed to drop staging table {}", stagingTable, e);
+        }
+    }
+
+    private <D> void copy(Connection connection, ImportTarget<D> target, String stagingTable,
+                          ImportFileProgress progress) throws IOException, SQLException {
+        var copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("copy " + stagingTable + " from stdin with (format csv)");
+        try (var reader = Files.newBufferedReader(progress.path(), StandardCharsets.UTF_8)) {
+            copyRows(reader, target, copyIn, progress);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private <D> void copyRows(BufferedReader reader, ImportTarget<D> target, CopyIn copyIn,
+                              ImportFileProgress progress) throws IOException, SQLException {
+        var headerLine = reader.readLine();
+        if (headerLine == null) {
+            return;
+        }
+        var header = CsvFormat.parseLine(headerLine).stream().map(String::trim).toList();
+
+        var chunk = new StringBuilder(COPY_CHUNK_CHARS + 1024);
+        long lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            progress.rowRead();
+            var values = stage(target, header, line, lineNumber, progress);
+            if (values != null) {
+                chunk.append(lineNumber);
+                values.forEach(value -> chunk.append(',').append(CsvFormat.escape(value)));
+                chunk.append('\n');
+                progress.rowStaged();
+            }
+
+            if (chunk.length() >= COPY_CHUNK_CHARS) {
+                write(copyIn, chunk);
+            }
+            if (progress.rowsRead() % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("Import of {}: {} rows read, {} staged", progress.path().getFileName(),
+                        progress.rowsRead(), progress.rowsStaged());
+            }
+        }
+        write(copyIn, chunk);
+    }
+
+    /**
+     * @return the staging values of the row, or {@code null} when it was rejected
+     */
+    private <D> List<Object> stage(ImportTarget<D> target, List<String> header, String line, long lineNumber,
+                                   ImportFileProgress progress) {
+        try {
+            var fields = CsvFormat.parseLine(line);
+            var row = new HashMap<String, String>();
+            for (int i = 0; i < header.size() && i < fields.size(); i++) {
+                row.put(header.get(i), fields.get(i));
+            }
+
+            var dto = target.parse(row);
+            var violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                progress.rowsRejected(1, "line " + lineNumber + ": " + describe(violations));
+                return null;
+            }
+            return target.stagingValues(dto);
+        } catch (IllegalArgumentException e) {
+            progress.rowsRejected(1, "line " + lineNumber + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private <D> void merge(Connection connection, ImportTarget<D> target, String stagingTable,
+                           ImportFileProgress progress) throws SQLException {
+        var sql = target.mergeSql()
+                .replace(ImportTarget.STAGING_TABLE, stagingTable)
+                .replace(ImportTarget.ID_BLOCK, String.valueOf(ImportTarget.ID_BLOCK_SIZE));
+
+        connection.setAutoCommit(false);
+        try (var statement = connection.createStatement()) {
+            long merged = statement.executeLargeUpdate(sql);
+            connection.commit();
+            progress.merged(merged);
+
+            long dropped = progress.rowsStaged() - merged;
+            if (dropped > 0) {
+                progress.rowsRejected(dropped, dropped + " rows reference rows that don't exist");
+            }
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder chunk) throws SQLException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        var bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.customerbookingservice.service.imports;
+
+import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
+import com.example.customerbookingservice.dto.imports.ImportType;
+import com.example.customerbookingservice.mapper.CustomerMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports CSV files with the header {@code fullName,email,status,age}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerImportTarget implements ImportTarget<CreateCustomerDto> {
+    private static final String MERGE_SQL = """
+            with numbered as (
+                select s.*, row_number() over (order by s.line) - 1 as rn
+                from {staging} s
+            ), blocks as (
+                select block, nextval('customer_seq') as lo
+                from generate_series(0, ceil((select count(*) from numbered) / {block}.0)::int - 1) as block
+            )
+            insert into customer (id, full_name, email, status, age, created, updated)
+            select b.lo + n.rn % {block}, n.full_name, n.email, n.status, n.age, now(), now()
+            from numbered n
+            join blocks b on b.block = n.rn / {block}
+            """;
+
+    private final CustomerMapper customerMapper;
+
+    @Override
+    public ImportType type() {
+        return ImportType.CUSTOMERS;
+    }
+
+    @Override
+    public String stagingColumns() {
+        return "full_name text, email text, status text, age int";
+    }
+
+    @Override
+    public CreateCustomerDto parse(Map<String, String> row) {
+        return CreateCustomerDto.builder()
+                .fullName(ImportValues.text(row, "fullName"))
+                .email(ImportValues.text(row, "email"))
+                .status(ImportValues.text(row, "status"))
+                .age(ImportValues.intValue(row, "age"))
+                .build();
+    }
+
+    @Override
+    public List<Object> stagingValues(CreateCustomerDto dto) {
+        var customer = customerMapper.toEntity(dto);
+        return Arrays.asList(customer.getFullName(), customer.getEmail(), customer.getStatus(), customer.getAge());
+    }
+
+    @Override
+    public String mergeSql() {
+        return MERGE_SQL;
+    }
+}
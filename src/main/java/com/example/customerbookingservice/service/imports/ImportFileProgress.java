@@ -0,0 +1,100 @@
+package com.example.customerbookingservice.service.imports;
+
+import com.example.customerbookingservice.dto.imports.ImportFileDto;
+import com.example.customerbookingservice.dto.imports.ImportState;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one file, written by the thread importing it and read by the status endpoint.
+ */
+public class ImportFileProgress {
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private final String name;
+    private final Path path;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong rowsStaged = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+    private volatile long rowsMerged;
+    private volatile ImportState state = ImportState.QUEUED;
+
+    public ImportFileProgress(String name, Path path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public ImportState state() {
+        return state;
+    }
+
+    public long rowsRead() {
+        return rowsRead.get();
+    }
+
+    public long rowsStaged() {
+        return rowsStaged.get();
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void rowStaged() {
+        rowsStaged.incrementAndGet();
+    }
+
+    void rowsRejected(long rows, String error) {
+        rowsRejected.addAndGet(rows);
+        addError(error);
+    }
+
+    void merged(long rows) {
+        rowsMerged = rows;
+    }
+
+    public void running() {
+        state = ImportState.RUNNING;
+    }
+
+    public void completed() {
+        state = ImportState.COMPLETED;
+    }
+
+    public void failed(String error) {
+        addError(error);
+        state = ImportState.FAILED;
+    }
+
+    private void addError(String error) {
+        synchronized (errors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+
+    public ImportFileDto toDto() {
+        List<String> reportedErrors;
+        synchronized (errors) {
+            reportedErrors = List.copyOf(errors);
+        }
+
+        return ImportFileDto.builder()
+                .file(name)
+                .state(state)
+                .rowsRead(rowsRead.get())
+                .rowsRejected(rowsRejected.get())
+                .rowsStaged(rowsStaged.get())
+                .rowsMerged(rowsMerged)
+                .errors(reportedErrors)
+                .build();
+    }
+}
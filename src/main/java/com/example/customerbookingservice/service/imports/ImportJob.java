@@ -0,0 +1,73 @@
+package com.example.customerbookingservice.service.imports;
+
+import com.example.customerbookingservice.dto.imports.ImportJobDto;
+import com.example.customerbookingservice.dto.imports.ImportState;
+import com.example.customerbookingservice.dto.imports.ImportType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class ImportJob {
+    private final String id = UUID.randomUUID().toString();
+    private final ImportType type;
+    private final List<ImportFileProgress> files;
+    private final LocalDateTime started = LocalDateTime.now();
+    private volatile LocalDateTime finished;
+
+    public ImportJob(ImportType type, List<ImportFileProgress> files) {
+        this.type = type;
+        this.files = List.copyOf(files);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public LocalDateTime started() {
+        return started;
+    }
+
+    public List<ImportFileProgress> files() {
+        return files;
+    }
+
+    public boolean isFinished() {
+        return finished != null;
+    }
+
+    /**
+     * Called after each file ends; marks the job finished once no file is queued or running.
+     */
+    public void fileFinished() {
+        if (files.stream().allMatch(file -> isDone(file.state()))) {
+            finished = LocalDateTime.now();
+        }
+    }
+
+    public ImportState state() {
+        if (files.stream().anyMatch(file -> !isDone(file.state()))) {
+            return files.stream().allMatch(file -> file.state() == ImportState.QUEUED)
+                    ? ImportState.QUEUED
+                    : ImportState.RUNNING;
+        }
+        return files.stream().anyMatch(file -> file.state() == ImportState.FAILED)
+                ? ImportState.FAILED
+                : ImportState.COMPLETED;
+    }
+
+    public ImportJobDto toDto() {
+        return ImportJobDto.builder()
+                .id(id)
+                .type(type)
+                .state(state())
+                .started(started)
+                .finished(finished)
+                .files(files.stream().map(ImportFileProgress::toDto).toList())
+                .build();
+    }
+
+    private static boolean isDone(ImportState state) {
+        return state == ImportState.COMPLETED || state == ImportState.FAILED;
+    }
+}
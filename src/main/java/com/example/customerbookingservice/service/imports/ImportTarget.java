@@ -0,0 +1,46 @@
+package com.example.customerbookingservice.service.imports;
+
+import com.example.customerbookingservice.dto.imports.ImportType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What a CSV file is imported into: how its rows become {@code D}, how they are staged and how the staging
+ * table is merged into the real tables.
+ *
+ * @param <D> the create DTO whose validation rules the rows must satisfy
+ */
+public interface ImportTarget<D> {
+    /**
+     * Ids are handed out in blocks of this size, matching {@code incrementBy} of the id sequences, so merged rows
+     * never collide with ids Hibernate's pooled-lo optimizer assigns.
+     */
+    int ID_BLOCK_SIZE = 50;
+
+    String STAGING_TABLE = "{staging}";
+
+    String ID_BLOCK = "{block}";
+
+    ImportType type();
+
+    /**
+     * Column definitions of the staging table, in the order of {@link #stagingValues}.
+     */
+    String stagingColumns();
+
+    /**
+     * @param row CSV values keyed by header name
+     * @throws IllegalArgumentException when a value can't be parsed
+     */
+    D parse(Map<String, String> row);
+
+    List<Object> stagingValues(D dto);
+
+    /**
+     * A single statement moving every staged row into the target tables; its update count is the merged row count.
+     * {@value #STAGING_TABLE} stands for the staging table (a {@code line} column followed by
+     * {@link #stagingColumns()}) and {@value #ID_BLOCK} for {@link #ID_BLOCK_SIZE}.
+     */
+    String mergeSql();
+}
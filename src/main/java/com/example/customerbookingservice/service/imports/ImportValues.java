@@ -0,0 +1,42 @@
+package com.example.customerbookingservice.service.imports;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+final class ImportValues {
+    private ImportValues() {
+    }
+
+    static String text(Map<String, String> row, String column) {
+        var value = row.get(column);
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    static int intValue(Map<String, String> row, String column) {
+        var value = text(row, column);
+        try {
+            return value == null ? 0 : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + ": must be a whole number");
+        }
+    }
+
+    static long longValue(Map<String, String> row, String column) {
+        var value = text(row, column);
+        try {
+            return value == null ? 0 : Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + ": must be a whole number");
+        }
+    }
+
+    static LocalDate date(Map<String, String> row, String column) {
+        var value = text(row, column);
+        try {
+            return value == null ? null : LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + ": must be an ISO date (yyyy-MM-dd)");
+        }
+    }
+}
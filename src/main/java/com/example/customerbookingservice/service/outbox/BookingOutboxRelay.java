@@ -0,0 +1,107 @@
+package com.example.customerbookingservice.service.outbox;
+
+import com.example.customerbookingservice.data.repository.BookingOutboxEventRepository;
+import com.example.customerbookingservice.mapper.BookingMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains {@code booking_outbox_event} into the {@link OutboxSink}. Each batch is locked with
+ * {@code FOR UPDATE SKIP LOCKED}, published and deleted in one transaction, so several nodes can relay
+ * concurrently without handing out the same event twice.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BookingOutboxRelay {
+    private final BookingOutboxEventRepository outboxEventRepository;
+    private final BookingMapper bookingMapper;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final Counter publishedEvents;
+    private final Timer eventLag;
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    public BookingOutboxRelay(BookingOutboxEventRepository outboxEventRepository,
+                              BookingMapper bookingMapper,
+                              OutboxSink sink,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${outbox.relay.batch-size:500}") int batchSize,
+                              @Value("${outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.bookingMapper = bookingMapper;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.publishedEvents = Counter.builder("outbox.relay.published")
+                .description("Booking events handed to the outbox sink")
+                .register(meterRegistry);
+        this.eventLag = Timer.builder("outbox.relay.lag")
+                .description("Time from writing a booking event to publishing it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.pending.age", oldestPendingAgeMillis, age -> age.get() / 1000.0)
+                .description("Age of the oldest event still waiting in the outbox")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes batches until the outbox is empty or {@code maxBatchesPerRun} is reached.
+     *
+     * @return the number of events published
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:PT1S}")
+    public int relay() {
+        int published = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int count = relayBatch();
+            published += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        var oldest = outboxEventRepository.findOldestCreated();
+        oldestPendingAgeMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+        return published;
+    }
+
+    private int relayBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            var events = outboxEventRepository.lockNextBatch(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            sink.publish(events.stream().map(bookingMapper::toEventDto).toList());
+            outboxEventRepository.deleteAllInBatch(events);
+
+            var now = LocalDateTime.now();
+            events.forEach(event -> eventLag.record(
+                    Duration.between(event.getCreated(), now).toMillis(), TimeUnit.MILLISECONDS));
+            publishedEvents.increment(events.size());
+            return events.size();
+        });
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.customerbookingservice.service.outbox;
+
+import com.example.customerbookingservice.dto.booking.BookingEventDto;
+
+import java.util.List;
+
+/**
+ * Destination of relayed booking events. A batch is deleted from the outbox only after {@link #publish} returns,
+ * so delivery is at-least-once and consumers should de-duplicate on {@link BookingEventDto#getEventId()}.
+ */
+public interface OutboxSink {
+    void publish(List<BookingEventDto> events);
+}
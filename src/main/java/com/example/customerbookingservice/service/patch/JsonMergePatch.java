@@ -0,0 +1,67 @@
+package com.example.customerbookingservice.service.patch;
+
+import com.example.customerbookingservice.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies an RFC 7396 JSON merge patch to an update DTO and validates the result with the same constraints as a full
+ * update, so {@code PATCH} and {@code PUT} can share one code path.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonMergePatch {
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public <T> T apply(T target, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("Merge patch must be a JSON object");
+        }
+
+        ObjectNode document = objectMapper.valueToTree(target);
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!document.has(field)) {
+                throw new BadRequestException("Unknown field: " + field);
+            }
+        });
+        merge(document, patch);
+
+        T patched = convert(document, target);
+        var violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return patched;
+    }
+
+    private static void merge(ObjectNode target, JsonNode patch) {
+        patch.properties().forEach(entry -> {
+            var value = entry.getValue();
+            if (value.isNull()) {
+                target.remove(entry.getKey());
+            } else if (value.isObject() && target.get(entry.getKey()) instanceof ObjectNode nested) {
+                merge(nested, value);
+            } else {
+                target.set(entry.getKey(), value);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T convert(ObjectNode document, T target) {
+        try {
+            return (T) objectMapper.treeToValue(document, target.getClass());
+        } catch (JsonProcessingException ex) {
+            throw new BadRequestException("Merge patch does not match the resource: " + ex.getOriginalMessage(), ex);
+        }
+    }
+}
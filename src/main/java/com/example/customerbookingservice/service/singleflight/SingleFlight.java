@@ -0,0 +1,22 @@
+package com.example.customerbookingservice.service.singleflight;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Concurrent calls with equal arguments share one execution: the first caller runs the method and the others wait
+ * for its result or exception. Nothing is kept once the call completes, so this only collapses a burst of identical
+ * loads, e.g. right after a cache entry expired.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+    /**
+     * Names the call in {@code single_flight_calls_total}.
+     */
+    String value();
+}
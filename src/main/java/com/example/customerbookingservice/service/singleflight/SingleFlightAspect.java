@@ -0,0 +1,72 @@
+package com.example.customerbookingservice.service.singleflight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implements {@link SingleFlight}. Runs inside the caching advice but outside the transaction advice, so callers
+ * that wait for an in-flight load never open a transaction or borrow a connection.
+ * <p>
+ * Every call is counted as {@code single.flight.calls} with {@code outcome} {@code executed} or {@code coalesced}.
+ */
+@Aspect
+@Component
+@Order(SingleFlightAspect.ORDER)
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Around("@annotation(singleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        var key = new Key(singleFlight.value(), Arrays.asList(joinPoint.getArgs()));
+        var call = new CompletableFuture<>();
+        var inFlightCall = inFlight.putIfAbsent(key, call);
+        if (inFlightCall != null) {
+            count(singleFlight, "coalesced");
+            return await(inFlightCall);
+        }
+
+        count(singleFlight, "executed");
+        try {
+            var result = joinPoint.proceed();
+            call.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private void count(SingleFlight singleFlight, String outcome) {
+        meterRegistry.counter("single.flight.calls", "name", singleFlight.value(), "outcome", outcome).increment();
+    }
+
+    private static Object await(CompletableFuture<Object> call) throws Throwable {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private record Key(String name, List<Object> args) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.customerbookingservice.benchmark;
+
+import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.repository.BrandRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives {@code GET /api/brands/{id}} over a small set of brands against a database that answers every statement
+ * after {@code benchmark.statement-latency}, and prints throughput and tail latency. The subclasses differ only in
+ * {@code app.cache.brands.enabled}; run both with {@code ./gradlew benchmarkTest} and compare.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "benchmark.statement-latency=2ms")
+@ActiveProfiles("test")
+@Import(SlowDatabaseConfig.class)
+abstract class AbstractBrandCacheBenchmarkTest {
+    private static final int BRANDS = 100;
+
+    private final LoadGenerator loadGenerator = new LoadGenerator(200, Duration.ofSeconds(3), Duration.ofSeconds(10));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    protected abstract String mode();
+
+    @AfterEach
+    void tearDown() {
+        brandRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getBrandById() throws InterruptedException {
+        var ids = brandRepository.saveAll(IntStream.range(0, BRANDS)
+                        .mapToObj(i -> Brand.builder().name("Brand " + i).address("Bench").shortCode("B" + i).build())
+                        .toList())
+                .stream()
+                .map(Brand::getId)
+                .toList();
+
+        var result = loadGenerator.run(i -> HttpRequest.newBuilder(uri("/api/brands/" + ids.get(i % BRANDS)))
+                .GET()
+                .build());
+        result.print("GET /api/brands/{id} [cache %s]".formatted(mode()));
+
+        assertThat(result.requests()).isPositive();
+        assertThat(result.errors()).isZero();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
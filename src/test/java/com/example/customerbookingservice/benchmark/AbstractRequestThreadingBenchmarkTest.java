@@ -0,0 +1,90 @@
+package com.example.customerbookingservice.benchmark;
+
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.repository.BookingRepository;
+import com.example.customerbookingservice.data.repository.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives {@code GET /api/customers/{id}} and {@code POST /api/bookings} with many concurrent clients against a
+ * database that answers every statement after {@code benchmark.statement-latency}, and prints throughput and tail
+ * latency. The subclasses differ only in {@code spring.threads.virtual.enabled}; run both with
+ * {@code ./gradlew benchmarkTest} and compare. Tomcat is capped below the connection pool so the platform-thread
+ * pool, not the database, is what saturates first.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.tomcat.threads.max=20",
+                "spring.datasource.hikari.maximum-pool-size=50",
+                "benchmark.statement-latency=5ms"
+        })
+@ActiveProfiles("test")
+@Import(SlowDatabaseConfig.class)
+abstract class AbstractRequestThreadingBenchmarkTest {
+    private final LoadGenerator loadGenerator = new LoadGenerator(200, Duration.ofSeconds(3), Duration.ofSeconds(10));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    protected abstract String mode();
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllInBatch();
+        customerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getCustomerById() throws InterruptedException {
+        var customer = customerRepository.save(Customer.builder().fullName("Bench").email("bench@example.com").build());
+        var request = HttpRequest.newBuilder(uri("/api/customers/" + customer.getId())).GET().build();
+
+        run("GET /api/customers/{id}", i -> request);
+    }
+
+    @Test
+    void createBooking() throws InterruptedException {
+        var customer = customerRepository.save(Customer.builder().fullName("Bench").email("bench@example.com").build());
+
+        run("POST /api/bookings", i -> HttpRequest.newBuilder(uri("/api/bookings"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"title":"Booking %d","status":"ACTIVE","startDate":"2025-01-01","endDate":"2025-01-02","customerId":%d}
+                        """.formatted(i, customer.getId())))
+                .build());
+    }
+
+    private void run(String scenario, IntFunction<HttpRequest> requests) throws InterruptedException {
+        var result = loadGenerator.run(requests);
+        result.print("%s [%s threads]".formatted(scenario, mode()));
+
+        assertThat(result.requests()).isPositive();
+        assertThat(result.errors()).isZero();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
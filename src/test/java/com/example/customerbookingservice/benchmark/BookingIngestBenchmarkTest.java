@@ -0,0 +1,94 @@
+package com.example.customerbookingservice.benchmark;
+
+import com.example.customerbookingservice.data.entity.Booking;
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.data.repository.BookingRepository;
+import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.service.BookingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures booking ingest throughput in rows/sec. Run with {@code ./gradlew benchmarkTest}
+ * on this commit and on its parent to compare sequence + batched inserts against IDENTITY.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingIngestBenchmarkTest {
+    private static final int ROWS = 5_000;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllInBatch();
+        customerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void createBooking_perCall() {
+        var customer = customerRepository.save(Customer.builder().fullName("Bench").build());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            bookingService.createBooking(CreateBookingDto.builder()
+                    .title("Booking " + i)
+                    .status(BookingStatus.ACTIVE.name())
+                    .startDate(LocalDate.of(2025, 1, 1))
+                    .endDate(LocalDate.of(2025, 1, 2))
+                    .customerId(customer.getId())
+                    .build());
+        }
+        report("createBooking (one transaction per call)", start);
+
+        assertThat(bookingRepository.count()).isEqualTo(ROWS);
+    }
+
+    @Test
+    void saveAll_batched() {
+        var customer = customerRepository.save(Customer.builder().fullName("Bench").build());
+        var bookings = new ArrayList<Booking>(ROWS);
+        IntStream.range(0, ROWS).forEach(i -> bookings.add(Booking.builder()
+                .title("Booking " + i)
+                .status(BookingStatus.ACTIVE)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 2))
+                .customer(customer)
+                .build()));
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> bookingRepository.saveAll(bookings));
+        report("saveAll (single transaction, JDBC batched)", start);
+
+        assertThat(bookingRepository.count()).isEqualTo(ROWS);
+    }
+
+    private static void report(String scenario, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        System.out.printf("%s: %d rows in %.2fs = %.0f rows/sec%n", scenario, ROWS, seconds, ROWS / seconds);
+    }
+}
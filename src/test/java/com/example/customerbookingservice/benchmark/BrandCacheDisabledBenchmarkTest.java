@@ -0,0 +1,12 @@
+package com.example.customerbookingservice.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "app.cache.brands.enabled=false")
+class BrandCacheDisabledBenchmarkTest extends AbstractBrandCacheBenchmarkTest {
+
+    @Override
+    protected String mode() {
+        return "off";
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.customerbookingservice.benchmark;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Closed-loop HTTP load: a fixed number of clients, each sending its next request as soon as the previous one
+ * returns, first for a warm-up period and then for the measured period.
+ */
+final class LoadGenerator {
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final int clients;
+    private final Duration warmUp;
+    private final Duration measurement;
+
+    LoadGenerator(int clients, Duration warmUp, Duration measurement) {
+        this.clients = clients;
+        this.warmUp = warmUp;
+        this.measurement = measurement;
+    }
+
+    Result run(IntFunction<HttpRequest> requests) throws InterruptedException {
+        load(requests, warmUp, new ConcurrentLinkedQueue<>(), new AtomicInteger());
+
+        var latencies = new ConcurrentLinkedQueue<Long>();
+        var errors = new AtomicInteger();
+        long start = System.nanoTime();
+        load(requests, measurement, latencies, errors);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        var sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(sorted, errors.get(), seconds);
+    }
+
+    private void load(IntFunction<HttpRequest> requests, Duration duration,
+                      ConcurrentLinkedQueue<Long> latencies, AtomicInteger errors) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        var sequence = new AtomicInteger();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long started = System.nanoTime();
+                        try {
+                            var response = httpClient.send(
+                                    requests.apply(sequence.incrementAndGet()), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() / 100 == 2) {
+                                latencies.add(System.nanoTime() - started);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+
+    record Result(long[] sortedLatencyNanos, int errors, double seconds) {
+
+        int requests() {
+            return sortedLatencyNanos.length;
+        }
+
+        void print(String label) {
+            System.out.printf("%s: %.0f req/s, p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, %d errors%n",
+                    label, requests() / seconds, percentileMillis(0.50), percentileMillis(0.99),
+                    percentileMillis(0.999), errors);
+        }
+
+        private double percentileMillis(double percentile) {
+            if (sortedLatencyNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencyNanos.length) - 1;
+            return sortedLatencyNanos[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.customerbookingservice.benchmark;
+
+import com.example.customerbookingservice.data.entity.Booking;
+import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.data.repository.BookingRepository;
+import com.example.customerbookingservice.data.repository.BrandRepository;
+import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.reactive.ReactiveReadServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the MVC listing endpoints with their WebFlux + R2DBC counterparts under 1000 concurrent clients.
+ * Run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ReactiveReadBenchmarkTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void dataSources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("app.reactive.enabled", () -> "true");
+        registry.add("app.reactive.port", () -> "0");
+        registry.add("app.reactive.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+                postgres.getHost(), postgres.getFirstMappedPort(), postgres.getDatabaseName()));
+        registry.add("app.reactive.r2dbc.username", postgres::getUsername);
+        registry.add("app.reactive.r2dbc.password", postgres::getPassword);
+    }
+
+    private final LoadGenerator loadGenerator = new LoadGenerator(1000, Duration.ofSeconds(3), Duration.ofSeconds(10));
+
+    @LocalServerPort
+    private int mvcPort;
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private long brandId;
+
+    @BeforeEach
+    void setUp() {
+        var customer = customerRepository.save(Customer.builder().fullName("Bench").email("bench@example.com").build());
+        var brand = brandRepository.save(Brand.builder().name("Bench").address("Bench").shortCode("BN").build());
+        var start = LocalDate.of(2025, 1, 1);
+        bookingRepository.saveAll(IntStream.range(0, 100).mapToObj(i -> Booking.builder()
+                .title("Booking " + i)
+                .status(BookingStatus.ACTIVE)
+                .startDate(start.plusDays(i))
+                .endDate(start.plusDays(i + 1))
+                .brand(brand)
+                .customer(customer)
+                .build()).toList());
+        brandId = brand.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAllInBatch();
+        customerRepository.deleteAllInBatch();
+        brandRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getCustomers() throws InterruptedException {
+        compare("GET /api/customers", "/api/customers?size=20");
+    }
+
+    @Test
+    void getBrandBookings() throws InterruptedException {
+        compare("GET /api/brands/{id}/bookings", "/api/brands/" + brandId + "/bookings?size=100");
+    }
+
+    private void compare(String scenario, String path) throws InterruptedException {
+        var mvc = loadGenerator.run(i -> get(mvcPort, path));
+        mvc.print(scenario + " [mvc]");
+
+        var reactive = loadGenerator.run(i -> get(reactiveReadServer.getPort(), path));
+        reactive.print(scenario + " [reactive]");
+
+        assertThat(mvc.errors()).isZero();
+        assertThat(reactive.errors()).isZero();
+    }
+
+    private static HttpRequest get(int port, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.customerbookingservice.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadBenchmarkTest extends AbstractRequestThreadingBenchmarkTest {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
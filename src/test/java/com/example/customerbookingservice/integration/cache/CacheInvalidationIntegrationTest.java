@@ -0,0 +1,166 @@
+package com.example.customerbookingservice.integration.cache;
+
+import com.example.customerbookingservice.CustomerBookingServiceApplication;
+import com.example.customerbookingservice.config.cache.CacheInvalidationListener;
+import com.example.customerbookingservice.config.cache.CacheNames;
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.dto.brand.CreateBrandDto;
+import com.example.customerbookingservice.dto.brand.UpdateBrandDto;
+import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
+import com.example.customerbookingservice.service.BrandService;
+import com.example.customerbookingservice.service.CustomerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs two nodes of the service against one database and checks that a write on one evicts the other's caches.
+ */
+@Testcontainers
+public class CacheInvalidationIntegrationTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("--spring.jpa.hibernate.ddl-auto=create-drop");
+        nodeB = startNode("--spring.jpa.hibernate.ddl-auto=none", "--spring.sql.init.mode=never");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void shouldEvictBrandOnOtherNode_WhenBrandIsUpdated() throws InterruptedException {
+        // Given
+        var brandsA = nodeA.getBean(BrandService.class);
+        var brandsB = nodeB.getBean(BrandService.class);
+        var brand = brandsA.createBrand(CreateBrandDto.builder()
+                .name("Original")
+                .address("Main Street 1")
+                .shortCode("ORG")
+                .build());
+        brandsB.getBrandById(brand.getId());
+        var cachedOnB = nodeB.getBean(CacheManager.class).getCache(CacheNames.BRANDS);
+        assertThat(cachedOnB.get(brand.getId())).isNotNull();
+
+        // When
+        brandsA.updateBrand(UpdateBrandDto.builder()
+                .id(brand.getId())
+                .name("Renamed")
+                .address("Main Street 1")
+                .shortCode("ORG")
+                .build());
+
+        // Then
+        awaitUntil(() -> cachedOnB.get(brand.getId()) == null);
+        assertThat(brandsB.getBrandById(brand.getId()).getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void shouldEvictCustomerOnOtherNode_WhenCustomerIsDeleted() throws InterruptedException {
+        // Given
+        var customersA = nodeA.getBean(CustomerService.class);
+        var customersB = nodeB.getBean(CustomerService.class);
+        var customer = customersA.createCustomer(CreateCustomerDto.builder()
+                .fullName("John Doe")
+                .email("john@example.com")
+                .status("ACTIVE")
+                .age(30)
+                .build());
+        customersB.getCustomerById(customer.getId());
+        var entityCacheB = nodeB.getBean(EntityManagerFactory.class).getCache();
+        assertThat(entityCacheB.contains(Customer.class, customer.getId())).isTrue();
+
+        // When
+        customersA.deleteCustomer(customer.getId());
+
+        // Then
+        awaitUntil(() -> !entityCacheB.contains(Customer.class, customer.getId()));
+        assertThatThrownBy(() -> customersB.getCustomerById(customer.getId()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void shouldClearLocalCaches_AfterListenerReconnects() throws InterruptedException {
+        // Given
+        var brandsA = nodeA.getBean(BrandService.class);
+        var brandsB = nodeB.getBean(BrandService.class);
+        var brand = brandsA.createBrand(CreateBrandDto.builder()
+                .name("Before Outage")
+                .address("Main Street 2")
+                .shortCode("BFO")
+                .build());
+        brandsB.getBrandById(brand.getId());
+
+        // A change that never notifies stays invisible to B while its cache holds the brand
+        var jdbc = new JdbcTemplate(nodeA.getBean(DataSource.class));
+        jdbc.update("update brand set name = 'After Outage' where id = ?", brand.getId());
+        assertThat(brandsB.getBrandById(brand.getId()).getName()).isEqualTo("Before Outage");
+        var reconnects = nodeB.getBean(MeterRegistry.class).counter("cache.invalidation.reconnects");
+        var reconnectsBefore = reconnects.count();
+
+        // When
+        jdbc.queryForList("select pg_terminate_backend(pid) from pg_stat_activity where application_name = ?",
+                CacheInvalidationListener.APPLICATION_NAME);
+
+        // Then
+        awaitUntil(() -> reconnects.count() > reconnectsBefore);
+        assertThat(brandsB.getBrandById(brand.getId()).getName()).isEqualTo("After Outage");
+    }
+
+    private static ConfigurableApplicationContext startNode(String... args) {
+        var common = new String[]{
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--server.port=0",
+                "--app.cache.invalidation.poll-timeout=PT0.2S",
+                "--app.cache.invalidation.reconnect-delay=PT0.2S"
+        };
+        var all = new String[common.length + args.length];
+        System.arraycopy(common, 0, all, 0, common.length);
+        System.arraycopy(args, 0, all, common.length, args.length);
+
+        return new SpringApplicationBuilder(CustomerBookingServiceApplication.class)
+                .profiles("test")
+                .run(all);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within %s", TIMEOUT).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
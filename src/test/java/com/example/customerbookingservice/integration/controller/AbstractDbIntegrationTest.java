@@ -1,14 +1,31 @@
 package com.example.customerbookingservice.integration.controller;
 
+import com.example.customerbookingservice.config.querycount.QueryCountFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
 public abstract class AbstractDbIntegrationTest {
 
     @Autowired
     protected TestRestTemplate restTemplate;
+
+    /**
+     * Fails when the request behind {@code response} ran more SQL statements than {@code max}.
+     */
+    protected static void assertMaxStatements(ResponseEntity<?> response, int max) {
+        assertThat(statementCount(response)).as("SQL statements").isLessThanOrEqualTo(max);
+    }
+
+    protected static long statementCount(ResponseEntity<?> response) {
+        var header = response.getHeaders().getFirst(QueryCountFilter.QUERY_COUNT_HEADER);
+        assertThat(header).as(QueryCountFilter.QUERY_COUNT_HEADER + " header").isNotNull();
+        return Long.parseLong(header);
+    }
 }
@@ -7,16 +7,24 @@ import com.example.customerbookingservice.data.enums.BookingStatus;
 import com.example.customerbookingservice.data.repository.BookingRepository;
 import com.example.customerbookingservice.data.repository.BrandRepository;
 import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.batch.BatchItemStatus;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
 import com.example.customerbookingservice.dto.booking.BookingDto;
 import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +40,9 @@ public class BookingControllerIntegrationTest extends AbstractDbIntegrationTest
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @AfterEach
     public void tearDown() {
         bookingRepository.deleteAll();
@@ -67,6 +78,7 @@ public class BookingControllerIntegrationTest extends AbstractDbIntegrationTest
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 4);
         assertThat(response.getHeaders().getLocation()).isNotNull();
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getTitle()).isEqualTo("Test Booking");
@@ -77,6 +89,81 @@ public class BookingControllerIntegrationTest extends AbstractDbIntegrationTest
         assertThat(bookingOpt.get().getTitle()).isEqualTo("Test Booking");
     }
 
+    @Test
+    void shouldCreateBookingWithBrand() {
+        // Given
+        var customer = customerRepository.save(Customer.builder()
+                .fullName("Booking Test")
+                .email("bookingtest@example.com")
+                .build());
+        var brand = brandRepository.save(Brand.builder().name("Brand A").address("Address A").shortCode("BA").build());
+
+        var createDto = CreateBookingDto.builder()
+                .title("Branded Booking")
+                .status("ACTIVE")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(1))
+                .customerId(customer.getId())
+                .brandId(brand.getId())
+                .build();
+
+        // When
+        var response = restTemplate.exchange("/api/bookings", HttpMethod.POST, new HttpEntity<>(createDto),
+                BookingDto.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertMaxStatements(response, 5);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getBrandName()).isEqualTo("Brand A");
+        assertThat(bookingRepository.findPageByBrandId(brand.getId(), Limit.of(10)))
+                .extracting(BookingDto::getTitle)
+                .containsExactly("Branded Booking");
+    }
+
+    @Test
+    void shouldReturnNotFound_WhenCreatingBookingForNonExistingCustomer() {
+        // Given
+        var createDto = CreateBookingDto.builder()
+                .title("Orphan Booking")
+                .status("ACTIVE")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(1))
+                .customerId(999_999L)
+                .build();
+
+        // When
+        var response = restTemplate.exchange("/api/bookings", HttpMethod.POST, new HttpEntity<>(createDto),
+                String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).contains("Customer not found");
+        assertThat(bookingRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldReturnBadRequest_WhenEndDateIsBeforeStartDate() {
+        // Given
+        var customer = customerRepository.save(Customer.builder().fullName("Inverted Customer").build());
+        var createDto = CreateBookingDto.builder()
+                .title("Inverted Booking")
+                .status("ACTIVE")
+                .startDate(LocalDate.now().plusDays(3))
+                .endDate(LocalDate.now())
+                .customerId(customer.getId())
+                .build();
+
+        // When
+        var response = restTemplate.exchange("/api/bookings", HttpMethod.POST, new HttpEntity<>(createDto),
+                String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).contains("End Date must not be before Start Date");
+        assertThat(bookingRepository.count()).isZero();
+    }
+
     @Test
     void shouldDeleteBooking() {
         // Given
@@ -107,6 +194,7 @@ public class BookingControllerIntegrationTest extends AbstractDbIntegrationTest
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 4);
         assertThat(bookingRepository.existsById(booking.getId())).isFalse();
     }
 
@@ -162,6 +250,7 @@ public class BookingControllerIntegrationTest extends AbstractDbIntegrationTest
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 5);
 
         var updatedBooking = bookingRepository.findById(booking.getId()).orElseThrow();
         assertThat(updatedBooking.getBrand().getId()).isEqualTo(brand.getId());
@@ -222,4 +311,158 @@ public class BookingControllerIntegrationTest extends AbstractDbIntegrationTest
         // Then
         assertThat(response.getStatusCode().is4xxClientError()).isTrue();
     }
+
+    @Test
+    void shouldReturnConflict_WhenBrandIsAlreadyBooked() {
+        // Given
+        var customer = customerRepository.save(Customer.builder()
+                .fullName("Overlap Customer")
+                .email("overlap@example.com")
+                .build());
+        var brand = brandRepository.save(Brand.builder().name("Overlap Brand").build());
+
+        bookingRepository.save(Booking.builder()
+                .title("Existing Booking")
+                .status(BookingStatus.ACTIVE)
+                .startDate(LocalDate.of(2025, 6, 1))
+                .endDate(LocalDate.of(2025, 6, 5))
+                .brand(brand)
+                .customer(customer)
+                .build());
+        var overlapping = bookingRepository.save(Booking.builder()
+                .title("Overlapping Booking")
+                .status(BookingStatus.ACTIVE)
+                .startDate(LocalDate.of(2025, 6, 4))
+                .endDate(LocalDate.of(2025, 6, 8))
+                .customer(customer)
+                .build());
+
+        // When
+        var response = restTemplate.exchange(
+                "/api/bookings/{id}/brands/{brandId}",
+                HttpMethod.PATCH,
+                null,
+                String.class,
+                overlapping.getId(),
+                brand.getId()
+        );
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(409);
+        assertThat(response.getBody())
+                .contains("The brand already has an active booking in this period")
+                .doesNotContain("ex_booking_brand_period");
+        assertThat(bookingRepository.findById(overlapping.getId()).orElseThrow().getBrand()).isNull();
+    }
+
+    @Test
+    void shouldCreateBookingsInBatch_BestEffort() {
+        // Given
+        var customer = customerRepository.save(Customer.builder().fullName("Batch Customer").build());
+        var items = new ArrayList<CreateBookingDto>();
+        for (int i = 0; i < 120; i++) {
+            items.add(CreateBookingDto.builder()
+                    .title("Batch Booking " + i)
+                    .status(BookingStatus.ACTIVE.name())
+                    .startDate(LocalDate.of(2025, 1, 1))
+                    .endDate(LocalDate.of(2025, 1, 2))
+                    .customerId(i == 7 ? 999_999L : customer.getId())
+                    .build());
+        }
+        items.add(CreateBookingDto.builder().customerId(customer.getId()).build());
+
+        // When
+        var response = restTemplate.exchange(
+                "/api/bookings/batch?mode=best_effort",
+                HttpMethod.POST,
+                new HttpEntity<>(items),
+                new ParameterizedTypeReference<BatchResultDto<BookingDto>>() {
+                }
+        );
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(207);
+        assertMaxStatements(response, 14);
+        var result = response.getBody();
+        assertThat(result.getCreated()).isEqualTo(119);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getItems().get(7).getErrors()).containsEntry("customerId", "Customer not found");
+        assertThat(result.getItems().get(120).getErrors()).containsKeys("title", "status", "startDate", "endDate");
+        assertThat(bookingRepository.count()).isEqualTo(119);
+    }
+
+    @Test
+    void shouldRejectWholeBookingBatch_AllOrNothing() {
+        // Given
+        var customer = customerRepository.save(Customer.builder().fullName("Batch Customer").build());
+        var valid = CreateBookingDto.builder()
+                .title("Valid")
+                .status(BookingStatus.ACTIVE.name())
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 2))
+                .customerId(customer.getId())
+                .build();
+        var unknownCustomer = CreateBookingDto.builder()
+                .title("Unknown customer")
+                .status(BookingStatus.ACTIVE.name())
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 2))
+                .customerId(999_999L)
+                .build();
+
+        // When
+        var response = restTemplate.exchange(
+                "/api/bookings/batch",
+                HttpMethod.POST,
+                new HttpEntity<>(List.of(valid, unknownCustomer)),
+                new ParameterizedTypeReference<BatchResultDto<BookingDto>>() {
+                }
+        );
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(422);
+        assertThat(response.getBody().getItems()).extracting(item -> item.getStatus())
+                .containsExactly(BatchItemStatus.SKIPPED, BatchItemStatus.FAILED);
+        assertThat(bookingRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldResolveBatchBrandsFromQueryCache_OnRepeatedBatch() {
+        // Given
+        var customer = customerRepository.save(Customer.builder().fullName("Batch Customer").build());
+        var brand = brandRepository.save(Brand.builder().name("Cached Brand").build());
+        createBatch(batchBooking(customer, brand, 1));
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictQueryRegions();
+
+        // When
+        var uncached = createBatch(batchBooking(customer, brand, 5));
+        var cached = createBatch(batchBooking(customer, brand, 9));
+
+        // Then
+        assertThat(uncached.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(cached.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(statementCount(cached)).isEqualTo(statementCount(uncached) - 1);
+        assertThat(cached.getBody().getItems().getFirst().getData().getBrandName()).isEqualTo("Cached Brand");
+    }
+
+    private ResponseEntity<BatchResultDto<BookingDto>> createBatch(CreateBookingDto bookingDto) {
+        return restTemplate.exchange(
+                "/api/bookings/batch",
+                HttpMethod.POST,
+                new HttpEntity<>(List.of(bookingDto)),
+                new ParameterizedTypeReference<BatchResultDto<BookingDto>>() {
+                }
+        );
+    }
+
+    private static CreateBookingDto batchBooking(Customer customer, Brand brand, int day) {
+        return CreateBookingDto.builder()
+                .title("Batch Booking " + day)
+                .status(BookingStatus.ACTIVE.name())
+                .startDate(LocalDate.of(2025, 1, day))
+                .endDate(LocalDate.of(2025, 1, day + 1))
+                .customerId(customer.getId())
+                .brandId(brand.getId())
+                .build();
+    }
 }
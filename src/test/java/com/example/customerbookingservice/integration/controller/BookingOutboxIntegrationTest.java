@@ -0,0 +1,131 @@
+package com.example.customerbookingservice.integration.controller;
+
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingEventType;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.data.repository.BookingOutboxEventRepository;
+import com.example.customerbookingservice.data.repository.BookingRepository;
+import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.BookingEventDto;
+import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.service.BookingService;
+import com.example.customerbookingservice.service.outbox.BookingOutboxRelay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(BookingOutboxIntegrationTest.OutboxTestConfig.class)
+@TestPropertySource(properties = "outbox.relay.batch-size=10")
+public class BookingOutboxIntegrationTest extends AbstractDbIntegrationTest {
+
+    @TestConfiguration
+    static class OutboxTestConfig {
+        @Bean
+        @Primary
+        InMemoryOutboxSink inMemoryOutboxSink() {
+            return new InMemoryOutboxSink();
+        }
+    }
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private BookingOutboxRelay relay;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAllInBatch();
+        customer = customerRepository.save(Customer.builder().fullName("Outbox Customer").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+        bookingRepository.deleteAll();
+        customerRepository.deleteAll();
+        sink.clear();
+    }
+
+    @Test
+    void shouldRelayCreatedAndDeletedBookingEvents() {
+        // Given
+        var created = restTemplate.postForEntity("/api/bookings", createBooking("Outbox Booking"), BookingDto.class);
+        var bookingId = created.getBody().getId();
+        restTemplate.exchange("/api/bookings/{id}", HttpMethod.DELETE, HttpEntity.EMPTY, Void.class, bookingId);
+
+        // When
+        var published = relay.relay();
+
+        // Then
+        assertThat(published).isEqualTo(2);
+        assertThat(sink.events()).extracting(BookingEventDto::getType)
+                .containsExactly(BookingEventType.BOOKING_CREATED, BookingEventType.BOOKING_DELETED);
+        assertThat(sink.events()).extracting(BookingEventDto::getBookingId).containsOnly(bookingId);
+        assertThat(sink.events()).extracting(BookingEventDto::getCustomerId).containsOnly(customer.getId());
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldPublishEachEventOnce_WhenRelaysRunConcurrently() throws Exception {
+        // Given
+        IntStream.range(0, 95).forEach(i -> bookingService.createBooking(createBooking("Booking " + i)));
+
+        // When
+        Callable<Integer> drain = relay::relay;
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var results = executor.invokeAll(List.of(drain, drain, drain, drain));
+            int total = 0;
+            for (var result : results) {
+                total += result.get();
+            }
+
+            // Then
+            assertThat(total).isEqualTo(95);
+        }
+        assertThat(sink.events()).hasSize(95);
+        assertThat(sink.events()).extracting(BookingEventDto::getEventId).doesNotHaveDuplicates();
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    private CreateBookingDto createBooking(String title) {
+        return CreateBookingDto.builder()
+                .title(title)
+                .status(BookingStatus.ACTIVE.name())
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 2))
+                .customerId(customer.getId())
+                .build();
+    }
+}
@@ -1,18 +1,33 @@
 package com.example.customerbookingservice.integration.controller;
 
+import com.example.customerbookingservice.data.entity.Booking;
 import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.data.repository.BookingRepository;
 import com.example.customerbookingservice.data.repository.BrandRepository;
+import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.batch.MultiGetResultDto;
 import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.dto.brand.BrandAvailabilityDto;
 import com.example.customerbookingservice.dto.brand.BrandDto;
 import com.example.customerbookingservice.dto.brand.CreateBrandDto;
 import com.example.customerbookingservice.dto.brand.UpdateBrandDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,8 +37,22 @@ public class BrandControllerIntegrationTest extends AbstractDbIntegrationTest {
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @AfterEach
     public void tearDown() {
+        bookingRepository.deleteAll();
+        customerRepository.deleteAll();
         brandRepository.deleteAll();
     }
 
@@ -47,6 +76,7 @@ public class BrandControllerIntegrationTest extends AbstractDbIntegrationTest {
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 1);
         assertThat(response.getBody()).hasSize(2);
         assertThat(response.getBody()).extracting(BrandDto::getName)
                 .containsExactlyInAnyOrder("Brand A", "Brand B");
@@ -67,11 +97,38 @@ public class BrandControllerIntegrationTest extends AbstractDbIntegrationTest {
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 1);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getName()).isEqualTo("Brand X");
         assertThat(response.getBody().getAddress()).isEqualTo("Some Address");
     }
 
+    @Test
+    void shouldGetBrandsByIds_InRequestOrderWithMissingIds() {
+        // Given
+        var first = brandRepository.save(Brand.builder().name("Brand A").address("Address A").shortCode("BA").build());
+        var second = brandRepository.save(Brand.builder().name("Brand B").address("Address B").shortCode("BB").build());
+        entityManagerFactory.getCache().evictAll();
+
+        // When
+        var response = restTemplate.exchange(
+                "/api/brands?ids={ids}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<MultiGetResultDto<BrandDto>>() {
+                },
+                second.getId() + "," + first.getId() + ",9999"
+        );
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 1);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getItems()).extracting(BrandDto::getName)
+                .containsExactly("Brand B", "Brand A");
+        assertThat(response.getBody().getMissingIds()).containsExactly(9999L);
+    }
+
     @Test
     void shouldReturnNotFound_ForNonExistingBrandById() {
         // When
@@ -101,6 +158,7 @@ public class BrandControllerIntegrationTest extends AbstractDbIntegrationTest {
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 2);
         assertThat(response.getHeaders().getLocation()).isNotNull();
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getName()).isEqualTo("New Brand");
@@ -138,6 +196,7 @@ public class BrandControllerIntegrationTest extends AbstractDbIntegrationTest {
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 2);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getName()).isEqualTo("Updated Brand");
 
@@ -145,6 +204,121 @@ public class BrandControllerIntegrationTest extends AbstractDbIntegrationTest {
         assertThat(updatedBrand.getName()).isEqualTo("Updated Brand");
     }
 
+    @Test
+    void shouldReturnNotModified_WhenBrandETagMatches() {
+        // Given
+        var brand = brandRepository.save(Brand.builder().name("Brand A").address("Address A").shortCode("BA").build());
+        var first = restTemplate.getForEntity("/api/brands/{id}", BrandDto.class, brand.getId());
+        var etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        var headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        // When
+        var response = restTemplate.exchange("/api/brands/{id}", HttpMethod.GET, new HttpEntity<>(headers),
+                BrandDto.class, brand.getId());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertMaxStatements(response, 1);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void shouldReturnNotModified_WhenBrandsPageETagMatches() {
+        // Given
+        brandRepository.saveAll(List.of(
+                Brand.builder().name("Brand A").address("Address A").shortCode("BA").build(),
+                Brand.builder().name("Brand B").address("Address B").shortCode("BB").build()
+        ));
+        var etag = restTemplate.getForEntity("/api/brands?withTotal=true", String.class).getHeaders().getETag();
+
+        var headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        // When
+        var response = restTemplate.exchange("/api/brands?withTotal=true", HttpMethod.GET, new HttpEntity<>(headers),
+                String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertMaxStatements(response, 2);
+    }
+
+    @Test
+    void shouldRejectUpdate_WhenIfMatchDoesNotMatch() {
+        // Given
+        var brand = brandRepository.save(Brand.builder().name("Old Brand").address("Old Address").shortCode("OB").build());
+        var updateDto = UpdateBrandDto.builder()
+                .id(brand.getId())
+                .name("Updated Brand")
+                .address("Updated Address")
+                .shortCode("UB")
+                .build();
+        var headers = new HttpHeaders();
+        headers.setIfMatch("\"" + brand.getId() + "-0\"");
+
+        // When
+        var response = restTemplate.exchange("/api/brands", HttpMethod.PUT, new HttpEntity<>(updateDto, headers),
+                String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(brandRepository.findById(brand.getId()).orElseThrow().getName()).isEqualTo("Old Brand");
+    }
+
+    @Test
+    void shouldServeBrandFromCache_AndKeepItCurrentOnWrites() {
+        // Given
+        var brand = brandRepository.save(Brand.builder().name("Cached").address("Address").shortCode("CA").build());
+        restTemplate.getForEntity("/api/brands/{id}", BrandDto.class, brand.getId());
+
+        // When
+        var cached = restTemplate.getForEntity("/api/brands/{id}", BrandDto.class, brand.getId());
+        restTemplate.put("/api/brands", UpdateBrandDto.builder()
+                .id(brand.getId())
+                .name("Renamed")
+                .address("Address")
+                .shortCode("CA")
+                .build());
+        var updated = restTemplate.getForEntity("/api/brands/{id}", BrandDto.class, brand.getId());
+        restTemplate.delete("/api/brands/{id}", brand.getId());
+        var deleted = restTemplate.getForEntity("/api/brands/{id}", String.class, brand.getId());
+
+        // Then
+        assertThat(cached.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertMaxStatements(cached, 0);
+        assertThat(updated.getBody()).isNotNull();
+        assertThat(updated.getBody().getName()).isEqualTo("Renamed");
+        assertMaxStatements(updated, 0);
+        assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void shouldPatchBrand_WithMergePatch() {
+        // Given
+        var brand = brandRepository.save(Brand.builder().name("Old Brand").address("Old Address").shortCode("OB").build());
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf("application/merge-patch+json"));
+
+        // When
+        var response = restTemplate.exchange("/api/brands/{id}", HttpMethod.PATCH,
+                new HttpEntity<>("{\"address\": \"New Address\"}", headers), BrandDto.class, brand.getId());
+        var stale = restTemplate.exchange("/api/brands/{id}", HttpMethod.PATCH,
+                new HttpEntity<>("{\"name\": \"Lost\", \"version\": " + brand.getVersion() + "}", headers),
+                String.class, brand.getId());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertMaxStatements(response, 2);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getAddress()).isEqualTo("New Address");
+        assertThat(response.getBody().getName()).isEqualTo("Old Brand");
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
     @Test
     void shouldReturnNotFoundOnUpdate_ForNonExistingBrand() {
         // Given
@@ -189,6 +363,7 @@ public class BrandControllerIntegrationTest extends AbstractDbIntegrationTest {
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 3);
         assertThat(brandRepository.existsById(brand.getId())).isFalse();
     }
 
@@ -229,6 +404,155 @@ public class BrandControllerIntegrationTest extends AbstractDbIntegrationTest {
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 1);
         assertThat(response.getBody()).isNotNull();
     }
+
+    @Test
+    void shouldLoadBrandBookingsPageInSingleStatement() {
+        // Given
+        var brand = brandRepository.save(Brand.builder().name("Projection Brand").shortCode("PB").build());
+        for (int i = 1; i <= 5; i++) {
+            var customer = customerRepository.save(Customer.builder().fullName("Customer " + i).build());
+            bookingRepository.save(Booking.builder()
+                    .title("Booking " + i)
+                    .status(BookingStatus.ACTIVE)
+                    .startDate(LocalDate.of(2025, 1, i))
+                    .endDate(LocalDate.of(2025, 1, i + 1))
+                    .brand(brand)
+                    .customer(customer)
+                    .build());
+        }
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        var response = restTemplate.exchange(
+                "/api/brands/{id}/bookings?size=3",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<BookingDto>>() {
+                },
+                brand.getId()
+        );
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getBody()).hasSize(3);
+        assertThat(response.getBody()).extracting(BookingDto::getBrandName).containsOnly("Projection Brand");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportBrandAvailability() {
+        // Given
+        var brand = brandRepository.save(Brand.builder().name("Availability Brand").shortCode("AB").build());
+        var customer = customerRepository.save(Customer.builder().fullName("Availability Customer").build());
+        bookingRepository.save(Booking.builder()
+                .title("Booked")
+                .status(BookingStatus.ACTIVE)
+                .startDate(LocalDate.of(2025, 3, 10))
+                .endDate(LocalDate.of(2025, 3, 15))
+                .brand(brand)
+                .customer(customer)
+                .build());
+
+        // When
+        var busy = restTemplate.getForEntity(
+                "/api/brands/{id}/availability?from=2025-03-14&to=2025-03-20",
+                BrandAvailabilityDto.class, brand.getId());
+        var free = restTemplate.getForEntity(
+                "/api/brands/{id}/availability?from=2025-03-15&to=2025-03-20",
+                BrandAvailabilityDto.class, brand.getId());
+
+        // Then
+        assertThat(busy.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(busy, 2);
+        assertMaxStatements(free, 0);
+        assertThat(busy.getBody().isAvailable()).isFalse();
+        assertThat(free.getBody().isAvailable()).isTrue();
+    }
+
+    @Test
+    void shouldFreeBrandAvailability_WhenCustomerWithBookingIsDeleted() {
+        // Given
+        var brand = brandRepository.save(Brand.builder().name("Availability Brand").shortCode("AB").build());
+        var customer = customerRepository.save(Customer.builder().fullName("Leaving Customer").build());
+        var booking = CreateBookingDto.builder()
+                .title("Booked")
+                .status(BookingStatus.ACTIVE.name())
+                .startDate(LocalDate.of(2025, 3, 10))
+                .endDate(LocalDate.of(2025, 3, 15))
+                .customerId(customer.getId())
+                .brandId(brand.getId())
+                .build();
+        restTemplate.postForEntity("/api/bookings", booking, BookingDto.class);
+        var busy = restTemplate.getForEntity(
+                "/api/brands/{id}/availability?from=2025-03-10&to=2025-03-15",
+                BrandAvailabilityDto.class, brand.getId());
+
+        // When
+        restTemplate.delete("/api/customers/{id}", customer.getId());
+        var free = restTemplate.getForEntity(
+                "/api/brands/{id}/availability?from=2025-03-10&to=2025-03-15",
+                BrandAvailabilityDto.class, brand.getId());
+
+        // Then
+        assertThat(busy.getBody().isAvailable()).isFalse();
+        assertThat(bookingRepository.count()).isZero();
+        assertThat(free.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(free, 0);
+        assertThat(free.getBody().isAvailable()).isTrue();
+    }
+
+    @Test
+    void shouldExportAllBrandBookings_AsNdjsonAndCsv() throws Exception {
+        // Given
+        var brand = brandRepository.save(Brand.builder().name("Export Brand").shortCode("EB").build());
+        var customer = customerRepository.save(Customer.builder().fullName("Export Customer").build());
+        for (int i = 0; i < 30; i++) {
+            bookingRepository.save(Booking.builder()
+                    .title("Booking " + i + ", \"quoted\"")
+                    .status(BookingStatus.CANCELLED)
+                    .startDate(LocalDate.of(2025, 1, 1).plusDays(i))
+                    .endDate(LocalDate.of(2025, 1, 2).plusDays(i))
+                    .brand(brand)
+                    .customer(customer)
+                    .build());
+        }
+
+        // When
+        var ndjson = restTemplate.getForEntity("/api/brands/{id}/bookings/export", String.class, brand.getId());
+        var csv = restTemplate.getForEntity("/api/brands/{id}/bookings/export?format=csv", String.class, brand.getId());
+
+        // Then
+        assertThat(ndjson.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(ndjson.getHeaders().getContentType().toString()).startsWith("application/x-ndjson");
+        var lines = ndjson.getBody().lines().toList();
+        assertThat(lines).hasSize(30);
+        var first = objectMapper.readValue(lines.getFirst(), BookingDto.class);
+        assertThat(first.getStartDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(first.getBrandName()).isEqualTo("Export Brand");
+
+        assertThat(csv.getHeaders().getContentType().toString()).startsWith("text/csv");
+        var rows = csv.getBody().lines().toList();
+        assertThat(rows).hasSize(31);
+        assertThat(rows.getFirst()).startsWith("id,title,");
+        assertThat(rows.get(1)).contains("\"Booking 0, \"\"quoted\"\"\"");
+    }
+
+    @Test
+    void shouldRejectExport_ForUnknownBrandOrFormat() {
+        // Given
+        var brand = brandRepository.save(Brand.builder().name("Export Brand").shortCode("EB").build());
+
+        // When
+        var missing = restTemplate.getForEntity("/api/brands/{id}/bookings/export", String.class, 999_999L);
+        var badFormat = restTemplate.getForEntity(
+                "/api/brands/{id}/bookings/export?format=xml", String.class, brand.getId());
+
+        // Then
+        assertThat(missing.getStatusCode().value()).isEqualTo(404);
+        assertThat(badFormat.getStatusCode().value()).isEqualTo(400);
+    }
 }
@@ -1,20 +1,33 @@
 package com.example.customerbookingservice.integration.controller;
 
+import com.example.customerbookingservice.data.entity.Booking;
 import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingStatus;
 import com.example.customerbookingservice.data.enums.CustomerStatus;
+import com.example.customerbookingservice.data.repository.BookingRepository;
 import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
+import com.example.customerbookingservice.dto.batch.MultiGetResultDto;
 import com.example.customerbookingservice.dto.booking.BookingDto;
 import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
 import com.example.customerbookingservice.dto.customer.CustomerDto;
 import com.example.customerbookingservice.dto.customer.UpdateCustomerDto;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -23,8 +36,15 @@ public class CustomerControllerIntegrationTest extends AbstractDbIntegrationTest
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @AfterEach
     public void tearDown() {
+        bookingRepository.deleteAll();
         customerRepository.deleteAll();
     }
 
@@ -48,6 +68,7 @@ public class CustomerControllerIntegrationTest extends AbstractDbIntegrationTest
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 1);
         assertThat(response.getBody()).hasSize(2);
         assertThat(response.getBody()).extracting(CustomerDto::getFullName)
                 .containsExactlyInAnyOrder("John Doe", "Jane Smith");
@@ -67,11 +88,89 @@ public class CustomerControllerIntegrationTest extends AbstractDbIntegrationTest
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 1);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getFullName()).isEqualTo("John Doe");
         assertThat(response.getBody().getEmail()).isEqualTo("JohnDoe@gmail.com");
     }
 
+    @Test
+    void shouldServeCustomerFromSecondLevelCache_AndKeepItCurrentOnUpdate() {
+        // Given
+        var customer = customerRepository.save(Customer.builder()
+                .fullName("John Doe")
+                .email("JohnDoe@gmail.com")
+                .status(CustomerStatus.ACTIVE)
+                .age(30)
+                .build());
+        entityManagerFactory.getCache().evictAll();
+
+        // When
+        var first = restTemplate.getForEntity("/api/customers/{id}", CustomerDto.class, customer.getId());
+        var second = restTemplate.getForEntity("/api/customers/{id}", CustomerDto.class, customer.getId());
+
+        // Then
+        assertThat(statementCount(first)).isEqualTo(1);
+        assertThat(statementCount(second)).isZero();
+        assertThat(second.getBody()).usingRecursiveComparison().isEqualTo(first.getBody());
+
+        // When
+        var update = UpdateCustomerDto.builder()
+                .id(customer.getId())
+                .fullName("John Updated")
+                .email("JohnDoe@gmail.com")
+                .status("ACTIVE")
+                .age(31)
+                .build();
+        restTemplate.put("/api/customers", update);
+        var afterUpdate = restTemplate.getForEntity("/api/customers/{id}", CustomerDto.class, customer.getId());
+
+        // Then
+        assertThat(statementCount(afterUpdate)).isZero();
+        assertThat(afterUpdate.getBody().getFullName()).isEqualTo("John Updated");
+        assertThat(afterUpdate.getBody().getAge()).isEqualTo(31);
+    }
+
+    @Test
+    void shouldGetCustomersByIds_InRequestOrderWithMissingIds() {
+        // Given
+        var john = customerRepository.save(Customer.builder().fullName("John Doe").email("JohnDoe@gmail.com").build());
+        var jane = customerRepository.save(Customer.builder().fullName("Jane Smith").email("JaneSmith@gmail.com").build());
+        entityManagerFactory.getCache().evictAll();
+
+        // When
+        var response = restTemplate.exchange(
+                "/api/customers?ids={ids}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<MultiGetResultDto<CustomerDto>>() {
+                },
+                jane.getId() + ",9999," + john.getId()
+        );
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 1);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getItems()).extracting(CustomerDto::getFullName)
+                .containsExactly("Jane Smith", "John Doe");
+        assertThat(response.getBody().getMissingIds()).containsExactly(9999L);
+    }
+
+    @Test
+    void shouldReturnBadRequest_WhenTooManyCustomerIdsRequested() {
+        // Given
+        var ids = LongStream.rangeClosed(1, 1001)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        // When
+        var response = restTemplate.getForEntity("/api/customers?ids={ids}", String.class, ids);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void shouldReturnNotFound_ForNonExistingCustomerById() {
         // When
@@ -101,6 +200,7 @@ public class CustomerControllerIntegrationTest extends AbstractDbIntegrationTest
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 2);
         assertThat(response.getHeaders().getLocation()).isNotNull();
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getFullName()).isEqualTo("Alice Wonderland");
@@ -141,6 +241,7 @@ public class CustomerControllerIntegrationTest extends AbstractDbIntegrationTest
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 2);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getFullName()).isEqualTo("New Name");
         assertThat(response.getBody().getEmail()).isEqualTo("newemail@example.com");
@@ -149,6 +250,176 @@ public class CustomerControllerIntegrationTest extends AbstractDbIntegrationTest
         assertThat(updatedCustomer.getFullName()).isEqualTo("New Name");
     }
 
+    @Test
+    void shouldReturnNotModified_WhenCustomerETagMatches() {
+        // Given
+        var customer = customerRepository.save(Customer.builder()
+                .fullName("John Doe")
+                .email("JohnDoe@gmail.com")
+                .build());
+        var first = restTemplate.getForEntity("/api/customers/{id}", CustomerDto.class, customer.getId());
+        var etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+        assertThat(first.getHeaders().getLastModified()).isPositive();
+
+        var headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        // When
+        var response = restTemplate.exchange("/api/customers/{id}", HttpMethod.GET, new HttpEntity<>(headers),
+                CustomerDto.class, customer.getId());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertMaxStatements(response, 1);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    void shouldReturnNotModified_WhenCustomersPageETagMatches() {
+        // Given
+        customerRepository.saveAll(List.of(
+                Customer.builder().fullName("John Doe").email("JohnDoe@gmail.com").build(),
+                Customer.builder().fullName("Jane Smith").email("JaneSmith@gmail.com").build()
+        ));
+        var first = restTemplate.getForEntity("/api/customers?size=10", String.class);
+        var etag = first.getHeaders().getETag();
+        assertThat(etag).startsWith("W/");
+
+        var headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        // When
+        var unchanged = restTemplate.exchange("/api/customers?size=10", HttpMethod.GET, new HttpEntity<>(headers),
+                String.class);
+        customerRepository.save(Customer.builder().fullName("New Customer").email("new@example.com").build());
+        var changed = restTemplate.exchange("/api/customers?size=10", HttpMethod.GET, new HttpEntity<>(headers),
+                String.class);
+
+        // Then
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertMaxStatements(unchanged, 1);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void shouldRejectUpdate_WhenIfMatchIsStale() {
+        // Given
+        var customer = customerRepository.save(Customer.builder()
+                .fullName("Old Name")
+                .email("oldemail@example.com")
+                .status(CustomerStatus.ACTIVE)
+                .age(26)
+                .build());
+        var etag = restTemplate.getForEntity("/api/customers/{id}", CustomerDto.class, customer.getId())
+                .getHeaders().getETag();
+
+        var updateDto = UpdateCustomerDto.builder()
+                .id(customer.getId())
+                .fullName("New Name")
+                .email("newemail@example.com")
+                .status("ACTIVE")
+                .age(27)
+                .build();
+        var headers = new HttpHeaders();
+        headers.setIfMatch(etag);
+
+        // When
+        var first = restTemplate.exchange("/api/customers", HttpMethod.PUT, new HttpEntity<>(updateDto, headers),
+                CustomerDto.class);
+        var second = restTemplate.exchange("/api/customers", HttpMethod.PUT, new HttpEntity<>(updateDto, headers),
+                String.class);
+
+        // Then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    void shouldPatchCustomer_WithMergePatch() {
+        // Given
+        var customer = customerRepository.save(Customer.builder()
+                .fullName("John Doe")
+                .email("JohnDoe@gmail.com")
+                .status(CustomerStatus.ACTIVE)
+                .age(26)
+                .build());
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf("application/merge-patch+json"));
+
+        // When
+        var response = restTemplate.exchange("/api/customers/{id}", HttpMethod.PATCH,
+                new HttpEntity<>("{\"age\": 27}", headers), CustomerDto.class, customer.getId());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertMaxStatements(response, 2);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getAge()).isEqualTo(27);
+        assertThat(response.getBody().getFullName()).isEqualTo("John Doe");
+        assertThat(response.getBody().getVersion()).isEqualTo(customer.getVersion() + 1);
+
+        var patched = customerRepository.findById(customer.getId()).orElseThrow();
+        assertThat(patched.getAge()).isEqualTo(27);
+        assertThat(patched.getEmail()).isEqualTo("JohnDoe@gmail.com");
+    }
+
+    @Test
+    void shouldReturnBadRequest_WhenPatchViolatesConstraints() {
+        // Given
+        var customer = customerRepository.save(Customer.builder()
+                .fullName("John Doe")
+                .status(CustomerStatus.ACTIVE)
+                .age(26)
+                .build());
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.valueOf("application/merge-patch+json"));
+
+        // When
+        var response = restTemplate.exchange("/api/customers/{id}", HttpMethod.PATCH,
+                new HttpEntity<>("{\"fullName\": null}", headers), String.class, customer.getId());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).contains("fullName");
+    }
+
+    @Test
+    void shouldReturnConflict_WhenUpdatingWithStaleVersion() {
+        // Given
+        var customer = customerRepository.save(Customer.builder()
+                .fullName("Old Name")
+                .status(CustomerStatus.ACTIVE)
+                .age(26)
+                .build());
+        var updateDto = UpdateCustomerDto.builder()
+                .id(customer.getId())
+                .fullName("New Name")
+                .status("ACTIVE")
+                .age(27)
+                .version(customer.getVersion())
+                .build();
+        var staleDto = UpdateCustomerDto.builder()
+                .id(customer.getId())
+                .fullName("Lost Update")
+                .status("ACTIVE")
+                .age(28)
+                .version(customer.getVersion())
+                .build();
+
+        // When
+        var first = restTemplate.exchange("/api/customers", HttpMethod.PUT, new HttpEntity<>(updateDto), String.class);
+        var second = restTemplate.exchange("/api/customers", HttpMethod.PUT, new HttpEntity<>(staleDto), String.class);
+
+        // Then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(customerRepository.findById(customer.getId()).orElseThrow().getFullName()).isEqualTo("New Name");
+    }
+
     @Test
     void shouldReturnNotFoundOnUpdate_ForNonExistingCustomer() {
         // Given
@@ -192,6 +463,7 @@ public class CustomerControllerIntegrationTest extends AbstractDbIntegrationTest
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 4);
         assertThat(customerRepository.existsById(customer.getId())).isFalse();
     }
 
@@ -229,6 +501,154 @@ public class CustomerControllerIntegrationTest extends AbstractDbIntegrationTest
 
         // Then
         assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertMaxStatements(response, 1);
         assertThat(response.getBody()).isNotNull();
     }
+
+    @Test
+    void shouldPageCustomerBookingsWithCursor() {
+        // Given
+        var customer = customerRepository.save(Customer.builder()
+                .fullName("Paging Customer")
+                .email("paging@example.com")
+                .build());
+        for (int day = 3; day >= 1; day--) {
+            bookingRepository.save(Booking.builder()
+                    .title("Booking " + day)
+                    .status(BookingStatus.ACTIVE)
+                    .startDate(LocalDate.of(2025, 1, day))
+                    .endDate(LocalDate.of(2025, 1, day + 1))
+                    .customer(customer)
+                    .build());
+        }
+
+        // When
+        var firstPage = restTemplate.exchange(
+                "/api/customers/{id}/bookings?size=2",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<BookingDto>>() {
+                },
+                customer.getId());
+        var cursor = firstPage.getHeaders().getFirst("X-Next-Cursor");
+        var secondPage = restTemplate.exchange(
+                "/api/customers/{id}/bookings?size=2&after={after}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<BookingDto>>() {
+                },
+                customer.getId(),
+                cursor);
+
+        // Then
+        assertThat(firstPage.getBody()).extracting(BookingDto::getTitle)
+                .containsExactly("Booking 1", "Booking 2");
+        assertThat(cursor).isNotNull();
+        assertThat(secondPage.getBody()).extracting(BookingDto::getTitle)
+                .containsExactly("Booking 3");
+        assertThat(secondPage.getHeaders().containsKey("X-Next-Cursor")).isFalse();
+    }
+
+    @Test
+    void shouldReturnBadRequest_ForInvalidBookingsCursor() {
+        // When
+        var response = restTemplate.getForEntity(
+                "/api/customers/{id}/bookings?after={after}", String.class, 1L, "%%%");
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void shouldExportAllCustomerBookings_AsNdjson() {
+        // Given
+        var customer = customerRepository.save(Customer.builder().fullName("Export Customer").build());
+        for (int i = 0; i < 25; i++) {
+            bookingRepository.save(Booking.builder()
+                    .title("Booking " + i)
+                    .status(BookingStatus.ACTIVE)
+                    .startDate(LocalDate.of(2025, 6, 1).plusDays(i))
+                    .endDate(LocalDate.of(2025, 6, 2).plusDays(i))
+                    .customer(customer)
+                    .build());
+        }
+
+        // When
+        var response = restTemplate.getForEntity(
+                "/api/customers/{id}/bookings/export", String.class, customer.getId());
+        var missing = restTemplate.getForEntity("/api/customers/{id}/bookings/export", String.class, 999_999L);
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getBody().lines()).hasSize(25);
+        assertThat(response.getBody().lines().findFirst().orElseThrow()).contains("\"title\":\"Booking 0\"");
+        assertThat(missing.getStatusCode().value()).isEqualTo(404);
+    }
+
+    @Test
+    void shouldCreateCustomersInBatch() {
+        // Given
+        var items = new ArrayList<CreateCustomerDto>();
+        for (int i = 0; i < 200; i++) {
+            items.add(CreateCustomerDto.builder()
+                    .fullName("Batch Customer " + i)
+                    .email("batch" + i + "@example.com")
+                    .status(CustomerStatus.ACTIVE.name())
+                    .age(30)
+                    .build());
+        }
+
+        // When
+        var response = restTemplate.exchange(
+                "/api/customers/batch",
+                HttpMethod.POST,
+                new HttpEntity<>(items),
+                new ParameterizedTypeReference<BatchResultDto<CustomerDto>>() {
+                }
+        );
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(201);
+        assertMaxStatements(response, 8);
+        assertThat(response.getBody().getCreated()).isEqualTo(200);
+        assertThat(response.getBody().getItems().get(199).getData().getFullName()).isEqualTo("Batch Customer 199");
+        assertThat(customerRepository.count()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldRejectCustomerBatch_WhenBodyExceedsRequestSizeLimit() {
+        // Given
+        var items = new ArrayList<CreateCustomerDto>();
+        for (int i = 0; i < 600; i++) {
+            items.add(CreateCustomerDto.builder()
+                    .fullName("x".repeat(2_000))
+                    .email("large" + i + "@example.com")
+                    .status(CustomerStatus.ACTIVE.name())
+                    .age(30)
+                    .build());
+        }
+
+        // When
+        var response = restTemplate.exchange("/api/customers/batch", HttpMethod.POST, new HttpEntity<>(items),
+                String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(customerRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldReturnBadRequest_WhenBatchBodyIsMalformed() {
+        // Given
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // When
+        var response = restTemplate.exchange("/api/customers/batch", HttpMethod.POST,
+                new HttpEntity<>("[{\"fullName\": ", headers), String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).contains("Request body is missing or malformed");
+    }
 }
@@ -0,0 +1,144 @@
+package com.example.customerbookingservice.integration.controller;
+
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingEventType;
+import com.example.customerbookingservice.data.repository.BookingOutboxEventRepository;
+import com.example.customerbookingservice.data.repository.BookingRepository;
+import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
+import com.example.customerbookingservice.dto.customer.CustomerDto;
+import com.example.customerbookingservice.dto.imports.CreateImportJobDto;
+import com.example.customerbookingservice.dto.imports.ImportJobDto;
+import com.example.customerbookingservice.dto.imports.ImportState;
+import com.example.customerbookingservice.dto.imports.ImportType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImportControllerIntegrationTest extends AbstractDbIntegrationTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingOutboxEventRepository outboxEventRepository;
+
+    @Value("${app.import.directory}")
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(directory);
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+        bookingRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void shouldImportCustomerFilesInParallel_AndRejectInvalidRows() throws Exception {
+        // Given
+        var first = new ArrayList<String>(List.of("fullName,email,status,age"));
+        IntStream.range(0, 120).forEach(i -> first.add("\"Customer, " + i + "\",c" + i + "@example.com,ACTIVE,30"));
+        first.add(",missing-name@example.com,ACTIVE,30");
+        first.add("Bad Age,bad-age@example.com,ACTIVE,thirty");
+        Files.write(directory.resolve("customers-1.csv"), first);
+
+        var second = new ArrayList<String>(List.of("fullName,email,status,age"));
+        IntStream.range(0, 80).forEach(i -> second.add("Other " + i + ",,DEACTIVATED,40"));
+        Files.write(directory.resolve("customers-2.csv"), second);
+
+        // When
+        var job = runImport(ImportType.CUSTOMERS, "customers-1.csv", "customers-2.csv");
+
+        // Then
+        assertThat(job.getState()).isEqualTo(ImportState.COMPLETED);
+        var firstFile = job.getFiles().getFirst();
+        assertThat(firstFile.getRowsRead()).isEqualTo(122);
+        assertThat(firstFile.getRowsMerged()).isEqualTo(120);
+        assertThat(firstFile.getRowsRejected()).isEqualTo(2);
+        assertThat(firstFile.getErrors()).anyMatch(error -> error.startsWith("line 122: fullName"));
+        assertThat(firstFile.getErrors()).anyMatch(error -> error.startsWith("line 123: age"));
+        assertThat(job.getFiles().get(1).getRowsMerged()).isEqualTo(80);
+        assertThat(customerRepository.count()).isEqualTo(200);
+
+        var created = restTemplate.postForEntity("/api/customers",
+                CreateCustomerDto.builder().fullName("After Import").status("ACTIVE").age(20).build(),
+                CustomerDto.class);
+        assertThat(created.getStatusCode().value()).isEqualTo(201);
+    }
+
+    @Test
+    void shouldImportBookings_SkippingUnknownCustomers() throws Exception {
+        // Given
+        var customer = customerRepository.save(Customer.builder()
+                .fullName("Import Customer")
+                .build());
+        var lines = new ArrayList<String>(List.of("title,description,status,startDate,endDate,customerId"));
+        IntStream.range(0, 60).forEach(i ->
+                lines.add("Booking " + i + ",,ACTIVE,2025-01-01,2025-01-02," + customer.getId()));
+        lines.add("Orphan,,ACTIVE,2025-01-01,2025-01-02,999999");
+        lines.add("Bad date,,ACTIVE,01/01/2025,2025-01-02," + customer.getId());
+        Files.write(directory.resolve("bookings.csv"), lines);
+
+        // When
+        var job = runImport(ImportType.BOOKINGS, "bookings.csv");
+
+        // Then
+        var file = job.getFiles().getFirst();
+        assertThat(job.getState()).isEqualTo(ImportState.COMPLETED);
+        assertThat(file.getRowsStaged()).isEqualTo(61);
+        assertThat(file.getRowsMerged()).isEqualTo(60);
+        assertThat(file.getRowsRejected()).isEqualTo(2);
+        assertThat(bookingRepository.count()).isEqualTo(60);
+        assertThat(outboxEventRepository.findAll())
+                .hasSize(60)
+                .allMatch(event -> event.getEventType() == BookingEventType.BOOKING_CREATED);
+    }
+
+    @Test
+    void shouldRejectFilesOutsideImportDirectory() {
+        // When
+        var response = restTemplate.postForEntity("/api/admin/imports",
+                CreateImportJobDto.builder().type(ImportType.CUSTOMERS).files(List.of("../secret.csv")).build(),
+                String.class);
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    private ImportJobDto runImport(ImportType type, String... files) throws InterruptedException {
+        var started = restTemplate.postForEntity("/api/admin/imports",
+                CreateImportJobDto.builder().type(type).files(List.of(files)).build(),
+                ImportJobDto.class);
+        assertThat(started.getStatusCode().value()).isEqualTo(202);
+
+        var deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (true) {
+            var job = restTemplate.getForObject(started.getHeaders().getLocation(), ImportJobDto.class);
+            if (job.getFinished() != null || System.nanoTime() > deadline) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.customerbookingservice.integration.controller;
+
+import com.example.customerbookingservice.dto.booking.BookingEventDto;
+import com.example.customerbookingservice.service.outbox.OutboxSink;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemoryOutboxSink implements OutboxSink {
+    private final List<BookingEventDto> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<BookingEventDto> batch) {
+        events.addAll(batch);
+    }
+
+    public List<BookingEventDto> events() {
+        return List.copyOf(events);
+    }
+
+    public void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.customerbookingservice.integration.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureObservability
+public class MetricsIntegrationTest extends AbstractDbIntegrationTest {
+
+    @Test
+    void shouldExposeLatencyAndPoolMetricsInPrometheusFormat() {
+        // Given
+        restTemplate.getForEntity("/api/customers", String.class);
+        restTemplate.getForEntity("/api/brands", String.class);
+        restTemplate.getForEntity("/api/customers/{id}", String.class, 9999L);
+
+        // When
+        var response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getBody())
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/customers\"")
+                .contains("service_method_seconds_bucket{")
+                .contains("class=\"com.example.customerbookingservice.service.impl.CustomerServiceImpl\"")
+                .contains("method=\"getCustomers\"")
+                .contains("spring_data_repository_invocations_seconds_bucket{")
+                .contains("repository=\"BrandRepository\"")
+                .contains("hikaricp_connections_active{")
+                .contains("hikaricp_connections_pending{")
+                .contains("hikaricp_connections_usage_seconds")
+                .contains("cache_gets_total{")
+                .contains("cache=\"brands\"")
+                .contains("hibernate_second_level_cache_requests_total{")
+                .contains("region=\"customer-entities\"")
+                .contains("single_flight_calls_total{")
+                .contains("outcome=\"executed\"");
+    }
+}
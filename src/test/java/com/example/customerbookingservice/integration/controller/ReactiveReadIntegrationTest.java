@@ -0,0 +1,187 @@
+package com.example.customerbookingservice.integration.controller;
+
+import com.example.customerbookingservice.data.entity.Booking;
+import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.data.repository.BookingRepository;
+import com.example.customerbookingservice.data.repository.BrandRepository;
+import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.booking.BookingCursor;
+import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.brand.BrandDto;
+import com.example.customerbookingservice.dto.customer.CustomerDto;
+import com.example.customerbookingservice.reactive.ReactiveReadServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+public class ReactiveReadIntegrationTest extends AbstractDbIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void dataSources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("app.reactive.enabled", () -> "true");
+        registry.add("app.reactive.port", () -> "0");
+        registry.add("app.reactive.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+                postgres.getHost(), postgres.getFirstMappedPort(), postgres.getDatabaseName()));
+        registry.add("app.reactive.r2dbc.username", postgres::getUsername);
+        registry.add("app.reactive.r2dbc.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveReadServer.getPort())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        customerRepository.deleteAll();
+        brandRepository.deleteAll();
+    }
+
+    @Test
+    void shouldStreamCustomersPage() {
+        // Given
+        IntStream.range(0, 3).forEach(i -> customerRepository.save(
+                Customer.builder().fullName("Customer " + i).email("c" + i + "@example.com").build()));
+
+        // When and Then
+        var customers = webTestClient.get().uri("/api/customers?page=0&size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CustomerDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(customers).extracting(CustomerDto::getFullName).containsExactly("Customer 0", "Customer 1");
+    }
+
+    @Test
+    void shouldStreamBrandsAsNdjson() {
+        // Given
+        brandRepository.save(Brand.builder().name("Brand A").address("Address A").shortCode("A").build());
+        brandRepository.save(Brand.builder().name("Brand B").address("Address B").shortCode("B").build());
+
+        // When and Then
+        var brands = webTestClient.get().uri("/api/brands")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(BrandDto.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(brands).extracting(BrandDto::getShortCode).containsExactly("A", "B");
+    }
+
+    @Test
+    void shouldPageBrandBookingsWithCursor() {
+        // Given
+        var brand = brandRepository.save(Brand.builder().name("Brand").address("Address").shortCode("BR").build());
+        var customer = customerRepository.save(Customer.builder().fullName("Customer").build());
+        var start = LocalDate.of(2025, 1, 1);
+        var bookings = IntStream.range(0, 3).mapToObj(i -> bookingRepository.save(Booking.builder()
+                .title("Booking " + i)
+                .status(BookingStatus.ACTIVE)
+                .startDate(start.plusDays(i))
+                .endDate(start.plusDays(i + 1))
+                .brand(brand)
+                .customer(customer)
+                .build())).toList();
+        var cursor = new BookingCursor(bookings.get(0).getStartDate(), bookings.get(0).getId()).encode();
+
+        // When and Then
+        var page = webTestClient.get().uri("/api/brands/{id}/bookings?after={after}&size=5", brand.getId(), cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBodyList(BookingDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(page).extracting(BookingDto::getTitle).containsExactly("Booking 1", "Booking 2");
+        assertThat(page).extracting(BookingDto::getBrandName).containsOnly("Brand");
+    }
+
+    @Test
+    void shouldReturnNextCursor_WhenMoreCustomerBookingsExist() {
+        // Given
+        var customer = customerRepository.save(Customer.builder().fullName("Customer").build());
+        var start = LocalDate.of(2025, 1, 1);
+        IntStream.range(0, 3).forEach(i -> bookingRepository.save(Booking.builder()
+                .title("Booking " + i)
+                .status(BookingStatus.ACTIVE)
+                .startDate(start.plusDays(i))
+                .endDate(start.plusDays(i + 1))
+                .customer(customer)
+                .build()));
+
+        // When
+        var firstPage = webTestClient.get().uri("/api/customers/{id}/bookings?size=2", customer.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BookingDto.class)
+                .returnResult();
+        var cursor = firstPage.getResponseHeaders().getFirst("X-Next-Cursor");
+        var secondPage = webTestClient.get()
+                .uri("/api/customers/{id}/bookings?after={after}&size=2", customer.getId(), cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBodyList(BookingDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Then
+        assertThat(firstPage.getResponseBody()).extracting(BookingDto::getTitle)
+                .containsExactly("Booking 0", "Booking 1");
+        assertThat(cursor).isNotNull();
+        assertThat(secondPage).extracting(BookingDto::getTitle).containsExactly("Booking 2");
+    }
+
+    @Test
+    void shouldReturnBadRequest_ForInvalidCursor() {
+        webTestClient.get().uri("/api/customers/1/bookings?after=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
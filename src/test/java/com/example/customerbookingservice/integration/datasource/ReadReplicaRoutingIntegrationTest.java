@@ -0,0 +1,193 @@
+package com.example.customerbookingservice.integration.datasource;
+
+import com.example.customerbookingservice.config.datasource.ReplicaRoutingDataSource;
+import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
+import com.example.customerbookingservice.dto.customer.CustomerDto;
+import com.example.customerbookingservice.integration.controller.AbstractDbIntegrationTest;
+import com.example.customerbookingservice.service.CustomerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+public class ReadReplicaRoutingIntegrationTest extends AbstractDbIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withInitScript("db/replica-schema.sql");
+
+    @DynamicPropertySource
+    static void dataSources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("app.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("app.datasource.replica.username", replica::getUsername);
+        registry.add("app.datasource.replica.password", replica::getPassword);
+        registry.add("app.datasource.routing.read-your-writes-window", () -> "PT5S");
+    }
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+
+    @BeforeEach
+    void setUp() {
+        primaryJdbc = new JdbcTemplate(primaryDataSource);
+        replicaJdbc = new JdbcTemplate(replicaDataSource);
+        replicaJdbc.update("insert into customer (id, full_name, email, status, age) values (1000, 'Replica Row', 'replica@example.com', 'ACTIVE', 30)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        primaryJdbc.update("delete from customer");
+        replicaJdbc.update("delete from customer");
+    }
+
+    @Test
+    void shouldReadCustomerListFromReplica() {
+        // When
+        var response = restTemplate.exchange(
+                "/api/customers",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<CustomerDto>>() {
+                }
+        );
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getBody()).extracting(CustomerDto::getFullName).containsExactly("Replica Row");
+    }
+
+    @Test
+    void shouldWriteCustomerToPrimary() {
+        // Given
+        var request = CreateCustomerDto.builder()
+                .fullName("Primary Row")
+                .email("primary@example.com")
+                .status("ACTIVE")
+                .age(25)
+                .build();
+
+        // When
+        var response = restTemplate.postForEntity("/api/customers", request, CustomerDto.class);
+
+        // Then
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(primaryJdbc.queryForList("select full_name from customer", String.class))
+                .containsExactly("Primary Row");
+        assertThat(replicaJdbc.queryForList("select full_name from customer", String.class))
+                .containsExactly("Replica Row");
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimary_WithinStickinessWindow() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        customerService.createCustomer(CreateCustomerDto.builder()
+                .fullName("Primary Row")
+                .email("primary@example.com")
+                .status("ACTIVE")
+                .age(25)
+                .build());
+
+        // When
+        var customers = customerService.getCustomers(PageRequest.of(0, 20), false);
+
+        // Then
+        assertThat(customers.getContent()).extracting(CustomerDto::getFullName).containsExactly("Primary Row");
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimary_InNextRequestWithStickyCookie() {
+        // Given
+        var created = restTemplate.postForEntity("/api/customers", CreateCustomerDto.builder()
+                .fullName("Primary Row")
+                .email("primary@example.com")
+                .status("ACTIVE")
+                .age(25)
+                .build(), CustomerDto.class);
+        var setCookie = created.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+        assertThat(setCookie).startsWith(ReplicaRoutingDataSource.STICKY_COOKIE + "=");
+        var headers = new HttpHeaders();
+        headers.add(HttpHeaders.COOKIE, setCookie.substring(0, setCookie.indexOf(';')));
+
+        // When
+        var withCookie = restTemplate.exchange("/api/customers", HttpMethod.GET, new HttpEntity<>(headers),
+                new ParameterizedTypeReference<List<CustomerDto>>() {
+                });
+        var withoutCookie = restTemplate.exchange("/api/customers", HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<CustomerDto>>() {
+                });
+
+        // Then
+        assertThat(withCookie.getBody()).extracting(CustomerDto::getFullName).containsExactly("Primary Row");
+        assertThat(withoutCookie.getBody()).extracting(CustomerDto::getFullName).containsExactly("Replica Row");
+    }
+
+    @Test
+    void shouldReadFromReplica_WhenStickyCookieIsFurtherOutThanWindow() {
+        // Given
+        primaryJdbc.update("insert into customer (id, full_name, email, status, age) values (2000, 'Primary Row', 'primary@example.com', 'ACTIVE', 25)");
+        var headers = new HttpHeaders();
+        headers.add(HttpHeaders.COOKIE,
+                ReplicaRoutingDataSource.STICKY_COOKIE + "=" + (System.currentTimeMillis() + 3_600_000));
+
+        // When
+        var response = restTemplate.exchange("/api/customers", HttpMethod.GET, new HttpEntity<>(headers),
+                new ParameterizedTypeReference<List<CustomerDto>>() {
+                });
+
+        // Then
+        assertThat(response.getBody()).extracting(CustomerDto::getFullName).containsExactly("Replica Row");
+    }
+
+    @Test
+    void shouldReadFromReplica_WhenNoWriteHappenedInRequest() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        primaryJdbc.update("insert into customer (id, full_name, email, status, age) values (2000, 'Primary Row', 'primary@example.com', 'ACTIVE', 25)");
+
+        // When
+        var customers = customerService.getCustomers(PageRequest.of(0, 20), false);
+
+        // Then
+        assertThat(customers.getContent()).extracting(CustomerDto::getFullName).containsExactly("Replica Row");
+    }
+}
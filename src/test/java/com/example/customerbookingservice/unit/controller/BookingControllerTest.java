@@ -1,6 +1,10 @@
 package com.example.customerbookingservice.unit.controller;
 
 import com.example.customerbookingservice.controller.BookingController;
+import com.example.customerbookingservice.dto.batch.BatchItemDto;
+import com.example.customerbookingservice.dto.batch.BatchItemStatus;
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.batch.BatchResultDto;
 import com.example.customerbookingservice.dto.booking.BookingDto;
 import com.example.customerbookingservice.dto.booking.CreateBookingDto;
 import com.example.customerbookingservice.service.BookingService;
@@ -13,9 +17,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -84,4 +92,40 @@ class BookingControllerTest {
         mockMvc.perform(patch("/api/bookings/1/brands/10"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void createBookings_partialBestEffort_returnsMultiStatus() throws Exception {
+        // Given
+        var result = BatchResultDto.<BookingDto>builder()
+                .mode(BatchMode.BEST_EFFORT)
+                .created(1)
+                .failed(1)
+                .items(List.of(
+                        BatchItemDto.<BookingDto>builder().index(0).status(BatchItemStatus.CREATED)
+                                .data(BookingDto.builder().id(1L).build()).build(),
+                        BatchItemDto.<BookingDto>builder().index(1).status(BatchItemStatus.FAILED)
+                                .errors(Map.of("title", "Title is required")).build()))
+                .build();
+
+        given(bookingService.createBookings(anyList(), eq(BatchMode.BEST_EFFORT))).willReturn(result);
+
+        // When and Then
+        mockMvc.perform(post("/api/bookings/batch")
+                        .param("mode", "best-effort")
+                        .contentType("application/json")
+                        .content("[{}, {}]"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.items[1].errors.title", is("Title is required")));
+    }
+
+    @Test
+    void createBookings_unknownMode_returnsBadRequest() throws Exception {
+        // When and Then
+        mockMvc.perform(post("/api/bookings/batch")
+                        .param("mode", "sometimes")
+                        .contentType("application/json")
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
 }
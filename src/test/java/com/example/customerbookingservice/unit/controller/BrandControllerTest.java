@@ -2,18 +2,26 @@ package com.example.customerbookingservice.unit.controller;
 
 import com.example.customerbookingservice.controller.BrandController;
 import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.BookingExportFormat;
+import com.example.customerbookingservice.dto.booking.BookingPageDto;
+import com.example.customerbookingservice.dto.brand.BrandAvailabilityDto;
 import com.example.customerbookingservice.dto.brand.BrandDto;
 import com.example.customerbookingservice.dto.brand.CreateBrandDto;
 import com.example.customerbookingservice.dto.brand.UpdateBrandDto;
+import com.example.customerbookingservice.service.BookingExportService;
 import com.example.customerbookingservice.service.BrandService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -21,6 +29,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,6 +42,9 @@ class BrandControllerTest {
     @MockitoBean
     private BrandService brandService;
 
+    @MockitoBean
+    private BookingExportService bookingExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -44,7 +56,7 @@ class BrandControllerTest {
                 BrandDto.builder().id(2L).name("Brand B").address("Address B").shortCode("B2").build()
         );
 
-        given(brandService.getBrands(any(Pageable.class))).willReturn(brands);
+        given(brandService.getBrands(any(Pageable.class), eq(false))).willReturn(new SliceImpl<>(brands));
 
         // When and Then
         mockMvc.perform(get("/api/brands"))
@@ -148,13 +160,65 @@ class BrandControllerTest {
                 BookingDto.builder().id(2L).title("Booking 2").build()
         );
 
-        given(brandService.getBrandBookings(eq(1L), any(Pageable.class))).willReturn(bookings);
+        given(brandService.getBrandBookings(1L, "cursor", 2)).willReturn(new BookingPageDto(bookings, null));
 
         // When and Then
-        mockMvc.perform(get("/api/brands/1/bookings"))
+        mockMvc.perform(get("/api/brands/1/bookings").param("after", "cursor").param("size", "2"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
                 .andExpect(jsonPath("$.size()", is(2)))
                 .andExpect(jsonPath("$[0].title", is("Booking 1")))
                 .andExpect(jsonPath("$[1].title", is("Booking 2")));
     }
+
+    @Test
+    void getBrandAvailability_returnsAvailability() throws Exception {
+        // Given
+        var from = LocalDate.of(2025, 1, 1);
+        var to = LocalDate.of(2025, 1, 5);
+        given(brandService.getBrandAvailability(1L, from, to))
+                .willReturn(new BrandAvailabilityDto(1L, from, to, false));
+
+        // When and Then
+        mockMvc.perform(get("/api/brands/1/availability").param("from", "2025-01-01").param("to", "2025-01-05"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.brandId", is(1)))
+                .andExpect(jsonPath("$.available", is(false)));
+    }
+
+    @Test
+    void shouldReturnNextFreeSlot() throws Exception {
+        // Given
+        var from = LocalDate.of(2025, 1, 1);
+        given(brandService.getNextFreeSlot(1L, from, 3))
+                .willReturn(new BrandAvailabilityDto(1L, from.plusDays(4), from.plusDays(7), true));
+
+        // When and Then
+        mockMvc.perform(get("/api/brands/1/availability/next").param("from", "2025-01-01").param("days", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from", is("2025-01-05")))
+                .andExpect(jsonPath("$.to", is("2025-01-08")));
+    }
+
+    @Test
+    void exportBrandBookings_streamsRequestedFormat() throws Exception {
+        // Given
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(bookingExportService).exportBrandBookings(eq(1L), eq(BookingExportFormat.NDJSON), any());
+
+        // When and Then
+        mockMvc.perform(get("/api/brands/1/bookings/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void exportBrandBookings_unknownFormat_returnsBadRequest() throws Exception {
+        // When and Then
+        mockMvc.perform(get("/api/brands/1/bookings/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
 }
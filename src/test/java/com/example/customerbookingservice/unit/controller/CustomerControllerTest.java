@@ -2,15 +2,19 @@ package com.example.customerbookingservice.unit.controller;
 
 import com.example.customerbookingservice.controller.CustomerController;
 import com.example.customerbookingservice.dto.booking.BookingDto;
+import com.example.customerbookingservice.dto.booking.BookingPageDto;
 import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
 import com.example.customerbookingservice.dto.customer.CustomerDto;
 import com.example.customerbookingservice.dto.customer.UpdateCustomerDto;
+import com.example.customerbookingservice.service.BookingExportService;
 import com.example.customerbookingservice.service.CustomerService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -32,6 +36,9 @@ class CustomerControllerTest {
     @MockitoBean
     private CustomerService customerService;
 
+    @MockitoBean
+    private BookingExportService bookingExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -54,11 +61,13 @@ class CustomerControllerTest {
                         .build()
         );
 
-        given(customerService.getCustomers(any())).willReturn(customers);
+        given(customerService.getCustomers(any(), eq(false))).willReturn(new SliceImpl<>(customers));
 
         // When and Then
         mockMvc.perform(get("/api/customers"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "false"))
+                .andExpect(header().doesNotExist("X-Total-Count"))
                 .andExpect(jsonPath("$.size()", is(2)))
                 .andExpect(jsonPath("$[0].id", is(1)))
                 .andExpect(jsonPath("$[1].id", is(2)))
@@ -66,6 +75,22 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$[1].email", is("jane@example.com")));
     }
 
+    @Test
+    void getCustomers_withTotal_returnsTotalCountHeader() throws Exception {
+        // Given
+        var customers = List.of(CustomerDto.builder().id(1L).fullName("John Doe").build());
+
+        given(customerService.getCustomers(any(), eq(true)))
+                .willReturn(new PageImpl<>(customers, PageRequest.of(0, 1), 5));
+
+        // When and Then
+        mockMvc.perform(get("/api/customers").param("withTotal", "true").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "true"))
+                .andExpect(header().string("X-Total-Count", "5"))
+                .andExpect(jsonPath("$.size()", is(1)));
+    }
+
     @Test
     void getCustomerById_found() throws Exception {
         // Given
@@ -162,11 +187,12 @@ class CustomerControllerTest {
                 BookingDto.builder().id(2L).title("Booking B").build()
         );
 
-        given(customerService.getCustomerBookings(eq(1L), any(Pageable.class))).willReturn(bookings);
+        given(customerService.getCustomerBookings(1L, null, 20)).willReturn(new BookingPageDto(bookings, "next"));
 
         // When and Then
         mockMvc.perform(get("/api/customers/1/bookings"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"))
                 .andExpect(jsonPath("$.size()", is(2)))
                 .andExpect(jsonPath("$[0].title", is("Booking A")))
                 .andExpect(jsonPath("$[1].title", is("Booking B")));
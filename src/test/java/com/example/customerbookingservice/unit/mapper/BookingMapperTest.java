@@ -0,0 +1,90 @@
+package com.example.customerbookingservice.unit.mapper;
+
+import com.example.customerbookingservice.data.entity.Booking;
+import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.mapper.BookingMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingMapperTest {
+
+    private final BookingMapper bookingMapper = new BookingMapper();
+
+    @Test
+    void toDto_mapsBrandNameAndCustomerId() {
+        // Given
+        var now = LocalDateTime.now();
+        var booking = Booking.builder()
+                .id(1L)
+                .title("Title")
+                .description("Description")
+                .status(BookingStatus.ACTIVE)
+                .created(now)
+                .updated(now)
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 2))
+                .brand(Brand.builder().id(2L).name("Brand").build())
+                .customer(Customer.builder().id(3L).build())
+                .build();
+
+        // When
+        var dto = bookingMapper.toDto(booking);
+
+        // Then
+        assertThat(dto.getId()).isEqualTo(1L);
+        assertThat(dto.getTitle()).isEqualTo("Title");
+        assertThat(dto.getStatus()).isEqualTo(BookingStatus.ACTIVE);
+        assertThat(dto.getCreated()).isEqualTo(now);
+        assertThat(dto.getEndDate()).isEqualTo(LocalDate.of(2025, 1, 2));
+        assertThat(dto.getBrandName()).isEqualTo("Brand");
+        assertThat(dto.getCustomerId()).isEqualTo(3L);
+    }
+
+    @Test
+    void toDto_withoutBrandAndCustomer_leavesThemEmpty() {
+        // When
+        var dto = bookingMapper.toDto(Booking.builder().title("Title").build());
+
+        // Then
+        assertThat(dto.getId()).isZero();
+        assertThat(dto.getBrandName()).isNull();
+        assertThat(dto.getCustomerId()).isZero();
+    }
+
+    @Test
+    void toEntity_convertsStatus() {
+        // Given
+        var dto = CreateBookingDto.builder()
+                .title("Title")
+                .status("CANCELLED")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 2))
+                .customerId(5L)
+                .build();
+
+        // When
+        var booking = bookingMapper.toEntity(dto);
+
+        // Then
+        assertThat(booking.getId()).isNull();
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(booking.getStartDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(booking.getCustomer()).isNull();
+    }
+
+    @Test
+    void toEntity_unknownStatus_mapsToNull() {
+        // When
+        var booking = bookingMapper.toEntity(CreateBookingDto.builder().status("PENDING").build());
+
+        // Then
+        assertThat(booking.getStatus()).isNull();
+    }
+}
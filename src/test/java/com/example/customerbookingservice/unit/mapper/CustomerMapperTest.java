@@ -0,0 +1,54 @@
+package com.example.customerbookingservice.unit.mapper;
+
+import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.CustomerStatus;
+import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
+import com.example.customerbookingservice.mapper.CustomerMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerMapperTest {
+
+    private final CustomerMapper customerMapper = new CustomerMapper();
+
+    @Test
+    void toDto_mapsStatusName() {
+        // Given
+        var customer = Customer.builder()
+                .id(1L)
+                .fullName("John Doe")
+                .email("john@example.com")
+                .status(CustomerStatus.DEACTIVATED)
+                .age(30)
+                .build();
+
+        // When
+        var dto = customerMapper.toDto(customer);
+
+        // Then
+        assertThat(dto.getId()).isEqualTo(1L);
+        assertThat(dto.getFullName()).isEqualTo("John Doe");
+        assertThat(dto.getStatus()).isEqualTo("DEACTIVATED");
+        assertThat(dto.getAge()).isEqualTo(30);
+    }
+
+    @Test
+    void toEntity_convertsStatus() {
+        // Given
+        var dto = CreateCustomerDto.builder()
+                .fullName("Alice")
+                .email("alice@example.com")
+                .status("ACTIVE")
+                .age(40)
+                .build();
+
+        // When
+        var customer = customerMapper.toEntity(dto);
+
+        // Then
+        assertThat(customer.getId()).isNull();
+        assertThat(customer.getStatus()).isEqualTo(CustomerStatus.ACTIVE);
+        assertThat(customer.getEmail()).isEqualTo("alice@example.com");
+    }
+}
@@ -3,18 +3,28 @@ package com.example.customerbookingservice.unit.service;
 import com.example.customerbookingservice.data.entity.Booking;
 import com.example.customerbookingservice.data.entity.Brand;
 import com.example.customerbookingservice.data.entity.Customer;
+import com.example.customerbookingservice.data.enums.BookingEventType;
 import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.data.repository.BookingOutboxEventRepository;
 import com.example.customerbookingservice.data.repository.BookingRepository;
 import com.example.customerbookingservice.data.repository.BrandRepository;
 import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.batch.BatchItemStatus;
+import com.example.customerbookingservice.dto.batch.BatchMode;
 import com.example.customerbookingservice.dto.booking.CreateBookingDto;
+import com.example.customerbookingservice.dto.brand.BrandDto;
+import com.example.customerbookingservice.mapper.BookingMapper;
+import com.example.customerbookingservice.service.BrandService;
+import com.example.customerbookingservice.service.availability.BrandAvailabilityIndex;
+import com.example.customerbookingservice.service.batch.BatchValidator;
 import com.example.customerbookingservice.service.impl.BookingServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,14 +38,21 @@ class BookingServiceImplTest {
     private CustomerRepository customerRepository;
     private BookingRepository bookingRepository;
     private BrandRepository brandRepository;
+    private BrandService brandService;
+    private BookingOutboxEventRepository outboxEventRepository;
+    private BrandAvailabilityIndex availabilityIndex;
 
     @BeforeEach
     void setUp() {
         customerRepository = mock(CustomerRepository.class);
         bookingRepository = mock(BookingRepository.class);
         brandRepository = mock(BrandRepository.class);
-        ModelMapper modelMapper = new ModelMapper();
-        bookingService = new BookingServiceImpl(customerRepository, bookingRepository, brandRepository, modelMapper);
+        brandService = mock(BrandService.class);
+        outboxEventRepository = mock(BookingOutboxEventRepository.class);
+        availabilityIndex = mock(BrandAvailabilityIndex.class);
+        bookingService = new BookingServiceImpl(customerRepository, bookingRepository, brandRepository, brandService,
+                outboxEventRepository, new BookingMapper(), availabilityIndex,
+                new BatchValidator(Validation.buildDefaultValidatorFactory().getValidator(), 1000));
     }
 
     @Test
@@ -56,7 +73,7 @@ class BookingServiceImplTest {
                 .email("Example@gmail.com")
                 .build();
 
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(customerRepository.getReferenceById(1L)).thenReturn(customer);
         when(bookingRepository.save(any())).thenAnswer(inv -> {
             Booking booking = inv.getArgument(0);
             booking.setId(100L);
@@ -68,18 +85,47 @@ class BookingServiceImplTest {
 
         // Then
         assertThat(result.getTitle()).isEqualTo("Consultation");
+        assertThat(result.getCustomerId()).isEqualTo(1L);
+        verify(customerRepository, never()).findById(anyLong());
         verify(bookingRepository).save(any(Booking.class));
+        verify(outboxEventRepository).save(argThat(event ->
+                event.getEventType() == BookingEventType.BOOKING_CREATED && event.getBookingId() == 100L));
     }
 
     @Test
-    void createBooking_customerNotFound_returnsEmpty() {
+    void createBooking_withBrand_assignsBrandInSameInsert() {
         // Given
-        var dto = CreateBookingDto.builder()
-                .customerId(404L)
-                .title("Not created")
-                .build();
+        var dto = bookingDto("Consultation", 1L);
+        dto.setBrandId(7L);
+        var brand = Brand.builder().id(7L).build();
 
-        when(customerRepository.findById(404L)).thenReturn(Optional.empty());
+        when(customerRepository.getReferenceById(1L)).thenReturn(Customer.builder().id(1L).build());
+        when(brandService.getBrandById(7L)).thenReturn(BrandDto.builder().id(7L).name("Brand").build());
+        when(brandRepository.getReferenceById(7L)).thenReturn(brand);
+        when(bookingRepository.save(any())).thenAnswer(inv -> {
+            Booking booking = inv.getArgument(0);
+            booking.setId(100L);
+            return booking;
+        });
+
+        // When
+        var result = bookingService.createBooking(dto);
+
+        // Then
+        assertThat(result.getBrandName()).isEqualTo("Brand");
+        verify(bookingRepository).save(argThat(booking -> booking.getBrand() == brand));
+        verify(brandRepository, never()).findById(anyLong());
+        verify(outboxEventRepository).save(argThat(event ->
+                event.getEventType() == BookingEventType.BOOKING_CREATED && event.getBrandId() == 7L));
+    }
+
+    @Test
+    void createBooking_brandNotFound_throws() {
+        // Given
+        var dto = bookingDto("Not created", 1L);
+        dto.setBrandId(404L);
+
+        when(brandService.getBrandById(404L)).thenThrow(new EntityNotFoundException("Brand not found"));
 
         // When + Then
         Exception exception = assertThrows(
@@ -87,26 +133,30 @@ class BookingServiceImplTest {
                 () -> bookingService.createBooking(dto)
         );
 
-        assertEquals("Customer not found", exception.getMessage());
-        verify(bookingRepository, never()).deleteById(anyLong());
+        assertEquals("Brand not found", exception.getMessage());
+        verify(bookingRepository, never()).save(any());
     }
 
     @Test
     void deleteCustomer_bookingExists_deletesAndReturnsTrue() {
         // Given
-        when(bookingRepository.existsById(10L)).thenReturn(true);
+        var booking = Booking.builder().id(10L).build();
+        when(bookingRepository.findById(10L)).thenReturn(Optional.of(booking));
 
         // When
         bookingService.deleteCustomer(10L);
 
         // Then
-        verify(bookingRepository).deleteById(10L);
+        verify(bookingRepository).delete(booking);
+        verify(outboxEventRepository).save(argThat(event ->
+                event.getEventType() == BookingEventType.BOOKING_DELETED && event.getBookingId() == 10L));
+        verify(availabilityIndex).bookingDeleted(10L);
     }
 
     @Test
     void deleteCustomer_bookingNotExists_returnsFalse() {
         // Given
-        when(bookingRepository.existsById(11L)).thenReturn(false);
+        when(bookingRepository.findById(11L)).thenReturn(Optional.empty());
 
         // When + Then
         Exception exception = assertThrows(
@@ -115,7 +165,8 @@ class BookingServiceImplTest {
         );
 
         assertEquals("Booking not found", exception.getMessage());
-        verify(bookingRepository, never()).deleteById(anyLong());
+        verify(bookingRepository, never()).delete(any());
+        verifyNoInteractions(outboxEventRepository);
     }
 
     @Test
@@ -135,7 +186,8 @@ class BookingServiceImplTest {
                 .build();
 
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
-        when(brandRepository.findById(brandId)).thenReturn(Optional.of(brand));
+        when(brandService.getBrandById(brandId)).thenReturn(BrandDto.builder().id(brandId).name("Test Brand").build());
+        when(brandRepository.getReferenceById(brandId)).thenReturn(brand);
 
         // When
         var result = bookingService.addBrand(bookingId, brandId);
@@ -145,6 +197,9 @@ class BookingServiceImplTest {
         assertThat(result.getBrandName()).isEqualTo(brand.getName());
         assertThat(booking.getBrand()).isEqualTo(brand);
         verify(bookingRepository).save(booking);
+        verify(outboxEventRepository).save(argThat(event ->
+                event.getEventType() == BookingEventType.BOOKING_BRAND_ASSIGNED && event.getBrandId() == brandId));
+        verify(availabilityIndex).bookingSaved(booking);
     }
 
     @Test
@@ -167,7 +222,7 @@ class BookingServiceImplTest {
         // Given
         var booking = Booking.builder().id(1L).build();
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(brandRepository.findById(999L)).thenReturn(Optional.empty());
+        when(brandService.getBrandById(999L)).thenThrow(new EntityNotFoundException("Brand not found"));
 
         // When + Then
         Exception exception = assertThrows(
@@ -178,4 +233,78 @@ class BookingServiceImplTest {
         assertEquals("Brand not found", exception.getMessage());
         verify(bookingRepository, never()).deleteById(anyLong());
     }
+
+    @Test
+    void createBookings_bestEffort_resolvesCustomersInOneQuery() {
+        // Given
+        var customer = Customer.builder().id(1L).fullName("Alice").build();
+        var known = bookingDto("Known", 1L);
+        var unknown = bookingDto("Unknown", 2L);
+        var sameCustomer = bookingDto("Known again", 1L);
+
+        when(customerRepository.findExistingIds(any())).thenReturn(List.of(1L));
+        when(customerRepository.getReferenceById(1L)).thenReturn(customer);
+        when(bookingRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Booking> bookings = inv.getArgument(0);
+            long id = 100;
+            for (var booking : bookings) {
+                booking.setId(id++);
+            }
+            return bookings;
+        });
+
+        // When
+        var result = bookingService.createBookings(List.of(known, unknown, sameCustomer), BatchMode.BEST_EFFORT);
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getItems()).extracting(item -> item.getStatus())
+                .containsExactly(BatchItemStatus.CREATED, BatchItemStatus.FAILED, BatchItemStatus.CREATED);
+        assertThat(result.getItems().get(1).getErrors()).containsEntry("customerId", "Customer not found");
+        assertThat(result.getItems().get(2).getData().getId()).isEqualTo(101L);
+        verify(customerRepository, times(1)).findExistingIds(argThat(ids -> ids.iterator().hasNext()));
+        verify(customerRepository, never()).findById(anyLong());
+        verify(brandRepository, never()).findAllById(any());
+        verify(outboxEventRepository).saveAll(argThat(events -> ((List<?>) events).size() == 2));
+    }
+
+    @Test
+    void createBookings_allOrNothing_unknownCustomer_createsNothing() {
+        // Given
+        when(customerRepository.findExistingIds(any())).thenReturn(List.of());
+
+        // When
+        var result = bookingService.createBookings(List.of(bookingDto("Unknown", 2L)), BatchMode.ALL_OR_NOTHING);
+
+        // Then
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(bookingRepository, never()).saveAll(any());
+        verify(outboxEventRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createBookings_endDateBeforeStartDate_failsValidation() {
+        // Given
+        var inverted = bookingDto("Inverted", 1L);
+        inverted.setEndDate(inverted.getStartDate().minusDays(1));
+
+        // When
+        var result = bookingService.createBookings(List.of(inverted), BatchMode.ALL_OR_NOTHING);
+
+        // Then
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getItems().get(0).getErrors())
+                .containsEntry("endDate", "End Date must not be before Start Date");
+        verify(bookingRepository, never()).saveAll(any());
+    }
+
+    private static CreateBookingDto bookingDto(String title, long customerId) {
+        return CreateBookingDto.builder()
+                .title(title)
+                .status(BookingStatus.ACTIVE.name())
+                .startDate(LocalDate.of(2025, 7, 1))
+                .endDate(LocalDate.of(2025, 7, 2))
+                .customerId(customerId)
+                .build();
+    }
 }
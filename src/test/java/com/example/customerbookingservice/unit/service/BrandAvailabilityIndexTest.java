@@ -0,0 +1,233 @@
+package com.example.customerbookingservice.unit.service;
+
+import com.example.customerbookingservice.data.entity.Booking;
+import com.example.customerbookingservice.data.entity.Brand;
+import com.example.customerbookingservice.data.enums.BookingStatus;
+import com.example.customerbookingservice.data.projection.BookingInterval;
+import com.example.customerbookingservice.data.repository.BookingRepository;
+import com.example.customerbookingservice.data.repository.BrandRepository;
+import com.example.customerbookingservice.service.availability.BrandAvailabilityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class BrandAvailabilityIndexTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+
+    private BookingRepository bookingRepository;
+    private BrandRepository brandRepository;
+    private BrandAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = mock(BookingRepository.class);
+        brandRepository = mock(BrandRepository.class);
+        index = new BrandAvailabilityIndex(bookingRepository, brandRepository);
+
+        when(brandRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(bookingRepository.findActiveBrandIntervals()).thenReturn(List.of(
+                new BookingInterval(10L, 1L, JAN_1.plusDays(10), JAN_1.plusDays(15)),
+                new BookingInterval(11L, 1L, JAN_1, JAN_1.plusDays(5))
+        ));
+        index.reload();
+    }
+
+    @Test
+    void reload_loadsIntervalsPerBrand() {
+        // Then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.containsBrand(1L)).isTrue();
+        assertThat(index.containsBrand(2L)).isTrue();
+        assertThat(index.containsBrand(3L)).isFalse();
+    }
+
+    @Test
+    void reload_manyBrands_keepsEveryBrandAndItsIntervals() {
+        // Given
+        var brandIds = LongStream.rangeClosed(1, 5_000).boxed().toList();
+        when(brandRepository.findAllIds()).thenReturn(brandIds);
+        when(bookingRepository.findActiveBrandIntervals()).thenReturn(brandIds.stream()
+                .filter(brandId -> brandId % 2 == 0)
+                .map(brandId -> new BookingInterval(brandId * 10, brandId, JAN_1, JAN_1.plusDays(5)))
+                .toList());
+
+        // When
+        index.reload();
+
+        // Then
+        assertThat(brandIds).allMatch(index::containsBrand);
+        assertThat(index.containsBrand(5_001L)).isFalse();
+        assertThat(index.isAvailable(4_998L, JAN_1, JAN_1.plusDays(1))).isFalse();
+        assertThat(index.isAvailable(4_999L, JAN_1, JAN_1.plusDays(1))).isTrue();
+        assertThat(index.verifyConsistency()).isZero();
+    }
+
+    @Test
+    void isAvailable_treatsEndDateAsExclusive() {
+        // Then
+        assertThat(index.isAvailable(1L, JAN_1.plusDays(4), JAN_1.plusDays(6))).isFalse();
+        assertThat(index.isAvailable(1L, JAN_1.plusDays(5), JAN_1.plusDays(10))).isTrue();
+        assertThat(index.isAvailable(1L, JAN_1.plusDays(14), JAN_1.plusDays(20))).isFalse();
+        assertThat(index.isAvailable(2L, JAN_1, JAN_1.plusDays(30))).isTrue();
+    }
+
+    @Test
+    void firstFreeDay_skipsPastBookedPeriods() {
+        // Then
+        assertThat(index.firstFreeDay(1L, JAN_1.toEpochDay(), 3)).isEqualTo(JAN_1.plusDays(5).toEpochDay());
+        assertThat(index.firstFreeDay(1L, JAN_1.toEpochDay(), 6)).isEqualTo(JAN_1.plusDays(15).toEpochDay());
+        assertThat(index.firstFreeDay(2L, JAN_1.toEpochDay(), 6)).isEqualTo(JAN_1.toEpochDay());
+    }
+
+    @Test
+    void bookingSaved_movesBookingBetweenBrands() {
+        // Given
+        var booking = Booking.builder()
+                .id(11L)
+                .status(BookingStatus.ACTIVE)
+                .startDate(JAN_1)
+                .endDate(JAN_1.plusDays(5))
+                .brand(Brand.builder().id(2L).build())
+                .build();
+
+        // When
+        index.bookingSaved(booking);
+
+        // Then
+        assertThat(index.isAvailable(1L, JAN_1, JAN_1.plusDays(5))).isTrue();
+        assertThat(index.isAvailable(2L, JAN_1, JAN_1.plusDays(5))).isFalse();
+    }
+
+    @Test
+    void bookingSaved_cancelledBooking_freesPeriod() {
+        // Given
+        var booking = Booking.builder()
+                .id(10L)
+                .status(BookingStatus.CANCELLED)
+                .startDate(JAN_1.plusDays(10))
+                .endDate(JAN_1.plusDays(15))
+                .brand(Brand.builder().id(1L).build())
+                .build();
+
+        // When
+        index.bookingSaved(booking);
+
+        // Then
+        assertThat(index.isAvailable(1L, JAN_1.plusDays(10), JAN_1.plusDays(15))).isTrue();
+    }
+
+    @Test
+    void bookingDeleted_freesPeriod() {
+        // When
+        index.bookingDeleted(11L);
+
+        // Then
+        assertThat(index.isAvailable(1L, JAN_1, JAN_1.plusDays(5))).isTrue();
+    }
+
+    @Test
+    void brandDeleted_removesBrand() {
+        // When
+        index.brandDeleted(1L);
+
+        // Then
+        assertThat(index.containsBrand(1L)).isFalse();
+    }
+
+    @Test
+    void verifyConsistency_repairsDrift() {
+        // Given
+        index.bookingDeleted(10L);
+
+        // When
+        var mismatches = index.verifyConsistency();
+
+        // Then
+        assertThat(mismatches).isEqualTo(1);
+        assertThat(index.isAvailable(1L, JAN_1.plusDays(10), JAN_1.plusDays(15))).isFalse();
+        assertThat(index.verifyConsistency()).isZero();
+    }
+
+    @Test
+    void refreshBrand_doesNotBlockWritersWhileLoading() throws Exception {
+        // Given
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(bookingRepository.findActiveIntervalsByBrandId(3L))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of(new BookingInterval(30L, 3L, JAN_1, JAN_1.plusDays(2)));
+                })
+                .thenReturn(List.of(new BookingInterval(30L, 3L, JAN_1, JAN_1.plusDays(2))));
+
+        try (var executor = Executors.newSingleThreadExecutor()) {
+            var refresh = executor.submit(() -> index.refreshBrand(3L));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            index.bookingDeleted(11L);
+            release.countDown();
+            refresh.get(5, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertThat(index.isAvailable(1L, JAN_1, JAN_1.plusDays(5))).isTrue();
+        assertThat(index.isAvailable(3L, JAN_1, JAN_1.plusDays(1))).isFalse();
+        verify(bookingRepository, times(2)).findActiveIntervalsByBrandId(3L);
+    }
+
+    @Test
+    void refreshBrand_loadsUnderLockAfterThreeConflicts() {
+        // Given
+        when(bookingRepository.findActiveIntervalsByBrandId(3L)).thenAnswer(invocation -> {
+            index.bookingDeleted(99L);
+            return List.of(new BookingInterval(30L, 3L, JAN_1, JAN_1.plusDays(2)));
+        });
+
+        // When
+        index.refreshBrand(3L);
+
+        // Then
+        assertThat(index.isAvailable(3L, JAN_1, JAN_1.plusDays(1))).isFalse();
+        verify(bookingRepository, times(4)).findActiveIntervalsByBrandId(3L);
+    }
+
+    @Test
+    void concurrentUpdates_keepEveryBooking() throws InterruptedException {
+        // Given
+        var executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            long day = 100 + i * 2L;
+            long bookingId = 1_000 + i;
+            executor.submit(() -> index.bookingSaved(Booking.builder()
+                    .id(bookingId)
+                    .status(BookingStatus.ACTIVE)
+                    .startDate(JAN_1.plusDays(day))
+                    .endDate(JAN_1.plusDays(day + 1))
+                    .brand(Brand.builder().id(2L).build())
+                    .build()));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        for (int i = 0; i < 200; i++) {
+            long day = 100 + i * 2L;
+            assertThat(index.isAvailable(2L, JAN_1.plusDays(day), JAN_1.plusDays(day + 1))).isFalse();
+            assertThat(index.isAvailable(2L, JAN_1.plusDays(day + 1), JAN_1.plusDays(day + 2))).isTrue();
+        }
+    }
+}
@@ -1,19 +1,32 @@
 package com.example.customerbookingservice.unit.service;
 
+import com.example.customerbookingservice.config.cache.CacheInvalidation;
+import com.example.customerbookingservice.config.cache.CacheInvalidationPublisher;
 import com.example.customerbookingservice.data.entity.Brand;
 import com.example.customerbookingservice.data.repository.BookingRepository;
 import com.example.customerbookingservice.data.repository.BrandRepository;
+import com.example.customerbookingservice.dto.booking.BookingCursor;
+import com.example.customerbookingservice.dto.brand.BrandDto;
 import com.example.customerbookingservice.dto.brand.CreateBrandDto;
 import com.example.customerbookingservice.dto.brand.UpdateBrandDto;
+import com.example.customerbookingservice.exception.BadRequestException;
+import com.example.customerbookingservice.mapper.BrandMapper;
+import com.example.customerbookingservice.service.availability.BrandAvailabilityIndex;
+import com.example.customerbookingservice.service.batch.BatchValidator;
 import com.example.customerbookingservice.service.impl.BrandServiceImpl;
+import com.example.customerbookingservice.service.patch.JsonMergePatch;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -28,14 +41,20 @@ class BrandServiceImplTest {
 
     private BrandRepository brandRepository;
     private BookingRepository bookingRepository;
+    private BrandAvailabilityIndex availabilityIndex;
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
     private BrandServiceImpl brandService;
 
     @BeforeEach
     void setUp() {
         brandRepository = mock(BrandRepository.class);
         bookingRepository = mock(BookingRepository.class);
-        ModelMapper modelMapper = new ModelMapper();
-        brandService = new BrandServiceImpl(brandRepository, bookingRepository, modelMapper);
+        availabilityIndex = mock(BrandAvailabilityIndex.class);
+        cacheInvalidationPublisher = mock(CacheInvalidationPublisher.class);
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        brandService = new BrandServiceImpl(brandRepository, bookingRepository, new BrandMapper(), availabilityIndex,
+                new BatchValidator(validator, 1000), new JsonMergePatch(new ObjectMapper(), validator),
+                cacheInvalidationPublisher);
     }
 
     @Test
@@ -50,14 +69,14 @@ class BrandServiceImplTest {
                 .updated(LocalDateTime.now())
                 .build();
 
-        when(brandRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(brand)));
+        when(brandRepository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(brand)));
 
         // When
-        var result = brandService.getBrands(PageRequest.of(0, 10));
+        var result = brandService.getBrands(PageRequest.of(0, 10), false);
 
         // Then
         assertThat(result).hasSize(1);
-        assertThat(result.getFirst().getName()).isEqualTo("Brand A");
+        assertThat(result.getContent().getFirst().getName()).isEqualTo("Brand A");
     }
 
     @Test
@@ -96,6 +115,30 @@ class BrandServiceImplTest {
         verify(bookingRepository, never()).deleteById(anyLong());
     }
 
+    @Test
+    void getBrandsByIds_returnsFoundInRequestOrderAndReportsMissing() {
+        // Given
+        var first = Brand.builder().id(1L).name("Brand A").shortCode("BR-A").build();
+        var second = Brand.builder().id(2L).name("Brand B").shortCode("BR-B").build();
+        when(brandRepository.findAllById(List.of(2L, 1L, 7L))).thenReturn(List.of(first, second));
+
+        // When
+        var result = brandService.getBrandsByIds(List.of(2L, 1L, 7L));
+
+        // Then
+        assertThat(result.getItems()).extracting(BrandDto::getName).containsExactly("Brand B", "Brand A");
+        assertThat(result.getMissingIds()).containsExactly(7L);
+    }
+
+    @Test
+    void getBrandsByIds_emptyIds_throws() {
+        // When + Then
+        var exception = assertThrows(BadRequestException.class, () -> brandService.getBrandsByIds(List.of()));
+
+        assertEquals("At least one id is required", exception.getMessage());
+        verify(brandRepository, never()).findAllById(any());
+    }
+
     @Test
     void createBrand_mapsAndSavesCorrectly() {
         // Given
@@ -149,7 +192,7 @@ class BrandServiceImplTest {
                 .build();
 
         when(brandRepository.findById(4L)).thenReturn(Optional.of(existing));
-        when(brandRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(brandRepository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
 
         // When
         var result = brandService.updateBrand(updateDto);
@@ -157,7 +200,56 @@ class BrandServiceImplTest {
         // Then
         assertThat(result.getName()).isEqualTo("Updated Brand");
         assertThat(result.getShortCode()).isEqualTo("NEW");
-        verify(brandRepository).save(existing);
+        verify(brandRepository).saveAndFlush(existing);
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.Entity.BRAND, 4L);
+    }
+
+    @Test
+    void patchBrand_mergesOnlyPatchedFields() throws Exception {
+        // Given
+        var existing = Brand.builder()
+                .id(4L)
+                .name("Old Brand")
+                .address("Old Address")
+                .shortCode("OLD")
+                .version(2)
+                .build();
+        var patch = new ObjectMapper().readTree("""
+                {"shortCode": "NEW", "version": 2}
+                """);
+
+        when(brandRepository.findById(4L)).thenReturn(Optional.of(existing));
+        when(brandRepository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        var result = brandService.patchBrand(4L, patch);
+
+        // Then
+        assertThat(result.getShortCode()).isEqualTo("NEW");
+        assertThat(result.getName()).isEqualTo("Old Brand");
+        assertThat(result.getAddress()).isEqualTo("Old Address");
+    }
+
+    @Test
+    void patchBrand_staleVersion_throwsConflict() throws Exception {
+        // Given
+        var existing = Brand.builder()
+                .id(4L)
+                .name("Old Brand")
+                .address("Old Address")
+                .shortCode("OLD")
+                .version(2)
+                .build();
+        var patch = new ObjectMapper().readTree("""
+                {"name": "New Brand", "version": 1}
+                """);
+
+        when(brandRepository.findById(4L)).thenReturn(Optional.of(existing));
+
+        // When + Then
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> brandService.patchBrand(4L, patch));
+        assertThat(existing.getName()).isEqualTo("Old Brand");
+        verify(brandRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -192,6 +284,7 @@ class BrandServiceImplTest {
 
         // Then
         verify(brandRepository).deleteById(10L);
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.Entity.BRAND, 10L);
     }
 
     @Test
@@ -212,13 +305,117 @@ class BrandServiceImplTest {
     @Test
     void getBrandBookings_returnsMappedDtos() {
         // Given
-        when(bookingRepository.findByBrandId(eq(1L), any(Pageable.class))).thenReturn(emptyList());
+        when(bookingRepository.findPageByBrandId(eq(1L), any(Limit.class))).thenReturn(emptyList());
+
+        // When
+        var page = brandService.getBrandBookings(1L, null, 10);
+
+        // Then
+        assertThat(page.getBookings()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verify(bookingRepository).findPageByBrandId(1L, Limit.of(11));
+    }
+
+    @Test
+    void getBrandBookings_withCursor_seeksPastCursor() {
+        // Given
+        var cursor = new BookingCursor(LocalDate.of(2025, 1, 1), 5L);
+        when(bookingRepository.findPageByBrandIdAfter(anyLong(), any(), anyLong(), any(Limit.class))).thenReturn(emptyList());
+
+        // When
+        brandService.getBrandBookings(1L, cursor.encode(), 10);
+
+        // Then
+        verify(bookingRepository).findPageByBrandIdAfter(1L, LocalDate.of(2025, 1, 1), 5L, Limit.of(11));
+    }
+
+    @Test
+    void getBrandAvailability_indexReady_answersFromIndex() {
+        // Given
+        var from = LocalDate.of(2025, 1, 1);
+        var to = LocalDate.of(2025, 1, 5);
+        when(availabilityIndex.isReady()).thenReturn(true);
+        when(availabilityIndex.containsBrand(1L)).thenReturn(true);
+        when(availabilityIndex.isAvailable(1L, from, to)).thenReturn(false);
+
+        // When
+        var result = brandService.getBrandAvailability(1L, from, to);
+
+        // Then
+        assertThat(result.isAvailable()).isFalse();
+        verifyNoInteractions(bookingRepository, brandRepository);
+    }
+
+    @Test
+    void getBrandAvailability_brandUnknownToIndex_refreshesBrand() {
+        // Given
+        var from = LocalDate.of(2025, 1, 1);
+        var to = LocalDate.of(2025, 1, 5);
+        when(availabilityIndex.isReady()).thenReturn(true);
+        when(availabilityIndex.containsBrand(1L)).thenReturn(false);
+        when(brandRepository.existsById(1L)).thenReturn(true);
+        when(availabilityIndex.isAvailable(1L, from, to)).thenReturn(true);
+
+        // When
+        var result = brandService.getBrandAvailability(1L, from, to);
+
+        // Then
+        assertThat(result.isAvailable()).isTrue();
+        verify(availabilityIndex).refreshBrand(1L);
+    }
+
+    @Test
+    void getNextFreeSlot_returnsSlotFromIndex() {
+        // Given
+        var from = LocalDate.of(2025, 1, 1);
+        when(availabilityIndex.containsBrand(1L)).thenReturn(true);
+        when(availabilityIndex.firstFreeDay(1L, from.toEpochDay(), 3)).thenReturn(from.plusDays(4).toEpochDay());
 
         // When
-        var bookings = brandService.getBrandBookings(1L, PageRequest.of(0, 10));
+        var result = brandService.getNextFreeSlot(1L, from, 3);
 
         // Then
-        assertThat(bookings).isEmpty();
-        verify(bookingRepository).findByBrandId(eq(1L), any(Pageable.class));
+        assertThat(result.getFrom()).isEqualTo(LocalDate.of(2025, 1, 5));
+        assertThat(result.getTo()).isEqualTo(LocalDate.of(2025, 1, 8));
+    }
+
+    @Test
+    void getBrandAvailability_noOverlap_returnsAvailable() {
+        // Given
+        var from = LocalDate.of(2025, 1, 1);
+        var to = LocalDate.of(2025, 1, 5);
+        when(brandRepository.existsById(1L)).thenReturn(true);
+        when(bookingRepository.isBrandAvailable(1L, from, to)).thenReturn(true);
+
+        // When
+        var result = brandService.getBrandAvailability(1L, from, to);
+
+        // Then
+        assertThat(result.isAvailable()).isTrue();
+        assertThat(result.getBrandId()).isEqualTo(1L);
+    }
+
+    @Test
+    void getBrandAvailability_brandNotFound_throws() {
+        // Given
+        when(brandRepository.existsById(404L)).thenReturn(false);
+
+        // When + Then
+        Exception exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> brandService.getBrandAvailability(404L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2))
+        );
+
+        assertEquals("Brand not found", exception.getMessage());
+        verify(bookingRepository, never()).isBrandAvailable(anyLong(), any(), any());
+    }
+
+    @Test
+    void getBrandAvailability_emptyRange_throws() {
+        // When + Then
+        assertThrows(
+                BadRequestException.class,
+                () -> brandService.getBrandAvailability(1L, LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 2))
+        );
     }
 }
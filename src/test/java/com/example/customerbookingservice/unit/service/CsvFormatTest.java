@@ -0,0 +1,35 @@
+package com.example.customerbookingservice.unit.service;
+
+import com.example.customerbookingservice.service.csv.CsvFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvFormatTest {
+
+    @Test
+    void escape_quotesOnlyWhenNeeded() {
+        assertThat(CsvFormat.escape("plain")).isEqualTo("plain");
+        assertThat(CsvFormat.escape(null)).isEmpty();
+        assertThat(CsvFormat.escape("a,b")).isEqualTo("\"a,b\"");
+        assertThat(CsvFormat.escape("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+    }
+
+    @Test
+    void parseLine_roundTripsEscapedFields() {
+        // Given
+        var line = String.join(",", CsvFormat.escape("Booking, \"quoted\""), "", CsvFormat.escape("x"));
+
+        // When
+        var fields = CsvFormat.parseLine(line);
+
+        // Then
+        assertThat(fields).containsExactly("Booking, \"quoted\"", "", "x");
+    }
+
+    @Test
+    void parseLine_unterminatedQuote_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CsvFormat.parseLine("\"open,field"));
+    }
+}
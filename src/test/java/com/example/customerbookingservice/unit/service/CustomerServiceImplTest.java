@@ -1,20 +1,39 @@
 package com.example.customerbookingservice.unit.service;
 
+import com.example.customerbookingservice.config.cache.CacheInvalidation;
+import com.example.customerbookingservice.config.cache.CacheInvalidationPublisher;
 import com.example.customerbookingservice.data.entity.Customer;
 import com.example.customerbookingservice.data.enums.CustomerStatus;
 import com.example.customerbookingservice.data.repository.BookingRepository;
 import com.example.customerbookingservice.data.repository.CustomerRepository;
+import com.example.customerbookingservice.dto.batch.BatchItemStatus;
+import com.example.customerbookingservice.dto.batch.BatchMode;
+import com.example.customerbookingservice.dto.booking.BookingCursor;
+import com.example.customerbookingservice.dto.booking.BookingDto;
 import com.example.customerbookingservice.dto.customer.CreateCustomerDto;
+import com.example.customerbookingservice.dto.customer.CustomerDto;
 import com.example.customerbookingservice.dto.customer.UpdateCustomerDto;
+import com.example.customerbookingservice.exception.BadRequestException;
+import com.example.customerbookingservice.mapper.CustomerMapper;
+import com.example.customerbookingservice.service.availability.BrandAvailabilityIndex;
+import com.example.customerbookingservice.service.batch.BatchValidator;
 import com.example.customerbookingservice.service.impl.CustomerServiceImpl;
+import com.example.customerbookingservice.service.patch.JsonMergePatch;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -29,15 +48,21 @@ class CustomerServiceImplTest {
 
     private CustomerRepository customerRepository;
     private BookingRepository bookingRepository;
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+    private BrandAvailabilityIndex availabilityIndex;
     private CustomerServiceImpl customerService;
 
     @BeforeEach
     void setUp() {
         customerRepository = mock(CustomerRepository.class);
         bookingRepository = mock(BookingRepository.class);
-        ModelMapper modelMapper = new ModelMapper();
+        cacheInvalidationPublisher = mock(CacheInvalidationPublisher.class);
+        availabilityIndex = mock(BrandAvailabilityIndex.class);
 
-        customerService = new CustomerServiceImpl(customerRepository, bookingRepository, modelMapper);
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        customerService = new CustomerServiceImpl(customerRepository, bookingRepository, new CustomerMapper(),
+                new BatchValidator(validator, 3), new JsonMergePatch(new ObjectMapper(), validator),
+                cacheInvalidationPublisher, availabilityIndex);
     }
 
     @Test
@@ -53,14 +78,41 @@ class CustomerServiceImplTest {
                 .updated(LocalDateTime.now())
                 .build();
 
-        when(customerRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(customer)));
+        when(customerRepository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(customer)));
 
         // When
-        var customers = customerService.getCustomers(PageRequest.of(0, 10));
+        var customers = customerService.getCustomers(PageRequest.of(0, 10), false);
 
         // Then
         assertThat(customers).hasSize(1);
-        assertThat(customers.getFirst().getFullName()).isEqualTo("John Doe");
+        assertThat(customers.getContent().getFirst().getFullName()).isEqualTo("John Doe");
+    }
+
+    @Test
+    void getCustomers_withoutTotal_skipsCountQuery() {
+        // Given
+        when(customerRepository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(emptyList()));
+
+        // When
+        var customers = customerService.getCustomers(PageRequest.of(0, 10), false);
+
+        // Then
+        assertThat(customers).isNotInstanceOf(Page.class);
+        verify(customerRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getCustomers_withTotal_returnsPage() {
+        // Given
+        when(customerRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(emptyList(), PageRequest.of(0, 10), 42));
+
+        // When
+        var customers = customerService.getCustomers(PageRequest.of(0, 10), true);
+
+        // Then
+        assertThat(customers).isInstanceOf(Page.class);
+        assertThat(((Page<?>) customers).getTotalElements()).isEqualTo(42);
     }
 
     @Test
@@ -100,6 +152,32 @@ class CustomerServiceImplTest {
         verify(bookingRepository, never()).deleteById(anyLong());
     }
 
+    @Test
+    void getCustomersByIds_returnsFoundInRequestOrderAndReportsMissing() {
+        // Given
+        var first = Customer.builder().id(1L).fullName("John Doe").status(CustomerStatus.ACTIVE).build();
+        var second = Customer.builder().id(2L).fullName("Jane Doe").status(CustomerStatus.ACTIVE).build();
+        when(customerRepository.findAllById(List.of(2L, 9L, 1L))).thenReturn(List.of(first, second));
+
+        // When
+        var result = customerService.getCustomersByIds(List.of(2L, 9L, 1L, 2L));
+
+        // Then
+        assertThat(result.getItems()).extracting(CustomerDto::getId).containsExactly(2L, 1L);
+        assertThat(result.getMissingIds()).containsExactly(9L);
+        verify(customerRepository).findAllById(List.of(2L, 9L, 1L));
+    }
+
+    @Test
+    void getCustomersByIds_tooManyIds_throws() {
+        // When + Then
+        var exception = assertThrows(BadRequestException.class,
+                () -> customerService.getCustomersByIds(List.of(1L, 2L, 3L, 4L)));
+
+        assertEquals("Can't fetch more than 3 ids at once", exception.getMessage());
+        verify(customerRepository, never()).findAllById(any());
+    }
+
     @Test
     void createCustomer_mapsAndSavesCorrectly() {
         // Given
@@ -156,7 +234,7 @@ class CustomerServiceImplTest {
                 .build();
 
         when(customerRepository.findById(1L)).thenReturn(Optional.of(existing));
-        when(customerRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(customerRepository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
 
         // When
         var result = customerService.updateCustomer(updateDto);
@@ -164,7 +242,86 @@ class CustomerServiceImplTest {
         // Then
         assertThat(result.getFullName()).isEqualTo("New Name");
         assertThat(result.getStatus()).isEqualTo("ACTIVE");
-        verify(customerRepository).save(existing);
+        verify(customerRepository).saveAndFlush(existing);
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.Entity.CUSTOMER, 1L);
+    }
+
+    @Test
+    void updateCustomer_staleVersion_throwsConflict() {
+        // Given
+        var existing = Customer.builder()
+                .id(1L)
+                .fullName("Old Name")
+                .status(CustomerStatus.ACTIVE)
+                .age(50)
+                .version(3)
+                .build();
+        var updateDto = UpdateCustomerDto.builder()
+                .id(1L)
+                .fullName("New Name")
+                .status("ACTIVE")
+                .age(45)
+                .version(2L)
+                .build();
+
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // When + Then
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> customerService.updateCustomer(updateDto));
+        assertThat(existing.getFullName()).isEqualTo("Old Name");
+        verify(customerRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(cacheInvalidationPublisher);
+    }
+
+    @Test
+    void patchCustomer_mergesOnlyPatchedFields() throws Exception {
+        // Given
+        var existing = Customer.builder()
+                .id(1L)
+                .fullName("Old Name")
+                .email("old@example.com")
+                .status(CustomerStatus.ACTIVE)
+                .age(50)
+                .build();
+        var patch = new ObjectMapper().readTree("""
+                {"age": 51, "email": null}
+                """);
+
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(customerRepository.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        var result = customerService.patchCustomer(1L, patch);
+
+        // Then
+        assertThat(result.getAge()).isEqualTo(51);
+        assertThat(result.getEmail()).isNull();
+        assertThat(result.getFullName()).isEqualTo("Old Name");
+        assertThat(result.getStatus()).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    void patchCustomer_invalidResult_throwsAndLeavesEntityUntouched() throws Exception {
+        // Given
+        var existing = Customer.builder()
+                .id(1L)
+                .fullName("Old Name")
+                .status(CustomerStatus.ACTIVE)
+                .age(50)
+                .build();
+
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        // When + Then
+        var mapper = new ObjectMapper();
+        assertThrows(ConstraintViolationException.class,
+                () -> customerService.patchCustomer(1L, mapper.readTree("{\"fullName\": \"\"}")));
+        assertThrows(BadRequestException.class,
+                () -> customerService.patchCustomer(1L, mapper.readTree("{\"id\": 2}")));
+        assertThrows(BadRequestException.class,
+                () -> customerService.patchCustomer(1L, mapper.readTree("{\"nickname\": \"x\"}")));
+        assertThat(existing.getFullName()).isEqualTo("Old Name");
+        verify(customerRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -194,12 +351,15 @@ class CustomerServiceImplTest {
     void deleteCustomer_exists_deletesAndReturnsTrue() {
         // Given
         when(customerRepository.existsById(1L)).thenReturn(true);
+        when(bookingRepository.findBrandedIdsByCustomerId(1L)).thenReturn(List.of(10L, 11L));
 
         // When
         customerService.deleteCustomer(1L);
 
         // Then
         verify(customerRepository).deleteById(1L);
+        verify(availabilityIndex).bookingsDeleted(List.of(10L, 11L));
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.Entity.CUSTOMER, 1L);
     }
 
     @Test
@@ -220,13 +380,91 @@ class CustomerServiceImplTest {
     @Test
     void getCustomerBookings_returnsMappedDtos() {
         // Given
-        when(bookingRepository.findByCustomerId(eq(1L), any(Pageable.class))).thenReturn(emptyList());
+        when(bookingRepository.findPageByCustomerId(eq(1L), any(Limit.class))).thenReturn(emptyList());
+
+        // When
+        var page = customerService.getCustomerBookings(1L, null, 10);
+
+        // Then
+        assertThat(page.getBookings()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verify(bookingRepository).findPageByCustomerId(1L, Limit.of(11));
+    }
+
+    @Test
+    void getCustomerBookings_moreRowsThanPage_returnsNextCursor() {
+        // Given
+        var bookings = List.of(
+                BookingDto.builder().id(1L).startDate(LocalDate.of(2025, 1, 1)).build(),
+                BookingDto.builder().id(2L).startDate(LocalDate.of(2025, 1, 2)).build(),
+                BookingDto.builder().id(3L).startDate(LocalDate.of(2025, 1, 3)).build()
+        );
+        when(bookingRepository.findPageByCustomerId(eq(1L), any(Limit.class))).thenReturn(bookings);
 
         // When
-        var bookings = customerService.getCustomerBookings(1L, PageRequest.of(0, 10));
+        var page = customerService.getCustomerBookings(1L, null, 2);
 
         // Then
-        assertThat(bookings).isEmpty();
-        verify(bookingRepository).findByCustomerId(eq(1L), any(Pageable.class));
+        assertThat(page.getBookings()).extracting(BookingDto::getId).containsExactly(1L, 2L);
+        assertThat(BookingCursor.decode(page.getNextCursor()))
+                .isEqualTo(new BookingCursor(LocalDate.of(2025, 1, 2), 2L));
+    }
+
+    @Test
+    void getCustomerBookings_invalidCursor_throws() {
+        // When + Then
+        assertThrows(
+                BadRequestException.class,
+                () -> customerService.getCustomerBookings(1L, "not-a-cursor", 10)
+        );
+    }
+
+    @Test
+    void createCustomers_allOrNothing_invalidItem_createsNothing() {
+        // Given
+        var valid = CreateCustomerDto.builder().fullName("Alice").status("ACTIVE").age(30).build();
+        var invalid = CreateCustomerDto.builder().fullName("").status("ACTIVE").age(30).build();
+
+        // When
+        var result = customerService.createCustomers(List.of(valid, invalid), BatchMode.ALL_OR_NOTHING);
+
+        // Then
+        assertThat(result.getCreated()).isZero();
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getItems()).extracting(item -> item.getStatus())
+                .containsExactly(BatchItemStatus.SKIPPED, BatchItemStatus.FAILED);
+        assertThat(result.getItems().get(1).getErrors()).containsKey("fullName");
+        verify(customerRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createCustomers_bestEffort_savesValidItemsInOneCall() {
+        // Given
+        var valid = CreateCustomerDto.builder().fullName("Alice").status("ACTIVE").age(30).build();
+        var invalid = CreateCustomerDto.builder().fullName("Bob").status("ACTIVE").age(0).build();
+        when(customerRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Customer> customers = inv.getArgument(0);
+            customers.forEach(customer -> customer.setId(10L));
+            return customers;
+        });
+
+        // When
+        var result = customerService.createCustomers(List.of(invalid, valid), BatchMode.BEST_EFFORT);
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getItems().get(0).getStatus()).isEqualTo(BatchItemStatus.FAILED);
+        assertThat(result.getItems().get(1).getData().getId()).isEqualTo(10L);
+        verify(customerRepository).saveAll(argThat(customers -> ((List<?>) customers).size() == 1));
+    }
+
+    @Test
+    void createCustomers_tooManyItems_throwsBadRequestException() {
+        // Given
+        var dto = CreateCustomerDto.builder().fullName("Alice").status("ACTIVE").age(30).build();
+
+        // When and Then
+        assertThrows(BadRequestException.class,
+                () -> customerService.createCustomers(List.of(dto, dto, dto, dto), BatchMode.BEST_EFFORT));
     }
 }
@@ -0,0 +1,193 @@
+package com.example.customerbookingservice.unit.service;
+
+import com.example.customerbookingservice.service.singleflight.SingleFlight;
+import com.example.customerbookingservice.service.singleflight.SingleFlightAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Lookup target;
+    private Lookup lookup;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = new Lookup();
+        var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(meterRegistry));
+        lookup = factory.getProxy();
+    }
+
+    @Test
+    void load_concurrentCallsForSameKey_shareOneExecution() throws Exception {
+        // Given
+        target.blockUntilReleased();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            var leader = executor.submit(() -> lookup.load(1L));
+            assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            var waiters = new ArrayList<Future<String>>();
+            for (int i = 0; i < 7; i++) {
+                waiters.add(executor.submit(() -> lookup.load(1L)));
+            }
+            awaitCount("coalesced", 7);
+
+            // When
+            target.release.countDown();
+
+            // Then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+            for (var waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("value-1");
+            }
+        }
+        assertThat(target.executions.get()).isEqualTo(1);
+        assertThat(count("executed")).isEqualTo(1);
+    }
+
+    @Test
+    void load_failure_isRethrownToEveryWaiter() throws Exception {
+        // Given
+        target.blockUntilReleased();
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var leader = executor.submit(() -> lookup.load(-1L));
+            assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            var waiter = executor.submit(() -> lookup.load(-1L));
+            awaitCount("coalesced", 1);
+
+            // When
+            target.release.countDown();
+
+            // Then
+            var leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            var waiterFailure = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertThat(leaderFailure.getCause()).isInstanceOf(EntityNotFoundException.class);
+            assertThat(waiterFailure.getCause()).isInstanceOf(EntityNotFoundException.class);
+        }
+
+        // And the failed call isn't remembered
+        assertThat(lookup.load(2L)).isEqualTo("value-2");
+        assertThrows(EntityNotFoundException.class, () -> lookup.load(-1L));
+    }
+
+    @Test
+    void load_sequentialCalls_eachExecute() {
+        // When
+        lookup.load(1L);
+        lookup.load(1L);
+        lookup.load(2L);
+
+        // Then
+        assertThat(target.executions.get()).isEqualTo(3);
+        assertThat(count("executed")).isEqualTo(3);
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    void load_underConcurrentLoad_returnsValueOfRequestedKeyAndCountsEveryCall() throws Exception {
+        // Given
+        int threads = 32;
+        int callsPerThread = 500;
+        var start = new CountDownLatch(1);
+        var wrongResults = new AtomicInteger();
+
+        // When
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            var workers = new ArrayList<Future<?>>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < callsPerThread; i++) {
+                        long key = i % 4;
+                        if (!lookup.load(key).equals("value-" + key)) {
+                            wrongResults.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (var worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        // Then
+        assertThat(wrongResults.get()).isZero();
+        assertThat(count("executed") + count("coalesced")).isEqualTo(threads * callsPerThread);
+        assertThat(count("executed")).isEqualTo(target.executions.get());
+        assertThat(count("coalesced")).isPositive();
+        assertThat(target.maxConcurrentPerKey()).isEqualTo(1);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter("single.flight.calls", "name", "lookup", "outcome", outcome).count();
+    }
+
+    private void awaitCount(String outcome, int expected) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(outcome) < expected) {
+            assertThat(System.nanoTime()).as("%s calls reach %d", outcome, expected).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    public static class Lookup {
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private final ConcurrentHashMap<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+        private final AtomicInteger maxConcurrentPerKey = new AtomicInteger();
+        private volatile boolean blocking;
+
+        void blockUntilReleased() {
+            blocking = true;
+        }
+
+        int maxConcurrentPerKey() {
+            return maxConcurrentPerKey.get();
+        }
+
+        @SingleFlight("lookup")
+        public String load(long id) {
+            executions.incrementAndGet();
+            var active = running.computeIfAbsent(id, key -> new AtomicInteger());
+            maxConcurrentPerKey.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                if (blocking) {
+                    entered.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                } else {
+                    Thread.sleep(0, 200_000);
+                }
+                if (id < 0) {
+                    throw new EntityNotFoundException("Lookup not found");
+                }
+                return "value-" + id;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- Mirrors changeset 6 of db/changelog/create_booking_overlap_constraint.yaml,
+-- applied on top of the schema Hibernate generates for the test profile.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE booking
+    ADD COLUMN period daterange GENERATED ALWAYS AS (daterange(start_date, end_date, '[)')) STORED;
+
+ALTER TABLE booking
+    ADD CONSTRAINT ex_booking_brand_period
+        EXCLUDE USING gist (brand_id WITH =, period WITH &&)
+        WHERE (status = 'ACTIVE');
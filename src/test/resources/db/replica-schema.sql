@@ -0,0 +1,11 @@
+create table customer
+(
+    id        bigint primary key,
+    full_name varchar(255),
+    email     varchar(255),
+    status    varchar(255),
+    age       integer not null,
+    version   bigint  not null default 0,
+    created   timestamp(6),
+    updated   timestamp(6)
+);